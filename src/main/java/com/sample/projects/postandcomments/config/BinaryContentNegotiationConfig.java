@@ -0,0 +1,54 @@
+package com.sample.projects.postandcomments.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Lets internal callers ask for Smile ({@code application/x-jackson-smile}) or CBOR ({@code application/cbor})
+ * instead of JSON, for requests and responses. The mappers share Boot's Jackson configuration, so the
+ * documents have the same shape as the JSON ones. MVC's defaults already include Smile and CBOR converters
+ * built from a bare builder (no Boot settings or modules), so ours take their place; they sit after the JSON
+ * converter, so wildcard and missing Accept headers still get JSON.
+ */
+@Configuration
+public class BinaryContentNegotiationConfig implements WebMvcConfigurer {
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    @Autowired
+    public BinaryContentNegotiationConfig(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        replaceOrAdd(converters, MappingJackson2SmileHttpMessageConverter.class, new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.factory(new SmileFactory()).build()));
+        replaceOrAdd(converters, MappingJackson2CborHttpMessageConverter.class, new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.factory(new CBORFactory()).build()));
+    }
+
+    private static void replaceOrAdd(List<HttpMessageConverter<?>> converters,
+                                     Class<?> type, HttpMessageConverter<?> replacement) {
+        boolean replaced = false;
+        for (ListIterator<HttpMessageConverter<?>> iterator = converters.listIterator(); iterator.hasNext(); ) {
+            if (type.isInstance(iterator.next())) {
+                iterator.set(replacement);
+                replaced = true;
+            }
+        }
+        if (!replaced) {
+            converters.add(replacement);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.sample.projects.postandcomments.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sample.projects.postandcomments.dto.CommonResponse;
+import com.sample.projects.postandcomments.util.AdaptiveConcurrencyLimit;
+import com.sample.projects.postandcomments.util.Constants;
+import com.sample.projects.postandcomments.util.ResponseUtil;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control in front of the controllers: API requests beyond an {@link AdaptiveConcurrencyLimit}
+ * get an immediate 503 instead of queueing for the connection pool or the AI bulkhead until they time out.
+ * Expensive requests may only fill part of the limit, so they are shed first and cheap reads keep flowing.
+ * The limit, in-flight count and rejections per priority are exported as {@code http.server.admission.*}.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 30)
+public class ConcurrencyLimitFilter implements Filter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    enum Priority {
+        // Single-row reads
+        HIGH,
+        // Writes
+        NORMAL,
+        // List reads, bulk operations and AI-enriched requests
+        LOW
+    }
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final ListEndpoints listEndpoints;
+    private final AdaptiveConcurrencyLimit limit;
+    private final Map<Priority, Double> shares = new EnumMap<>(Priority.class);
+    private final Map<Priority, LongAdder> rejections = new EnumMap<>(Priority.class);
+
+    public ConcurrencyLimitFilter(ObjectMapper objectMapper,
+                                  ObjectProvider<MeterRegistry> meterRegistry,
+                                  @Qualifier("requestMappingHandlerMapping") ObjectProvider<RequestMappingHandlerMapping> handlerMapping,
+                                  @Value("${app.concurrency-limit.enabled:true}") boolean enabled,
+                                  @Value("${app.concurrency-limit.initial:50}") int initialLimit,
+                                  @Value("${app.concurrency-limit.min:10}") int minLimit,
+                                  @Value("${app.concurrency-limit.max:1000}") int maxLimit,
+                                  @Value("${app.concurrency-limit.latency-tolerance:2.0}") double tolerance,
+                                  @Value("${app.concurrency-limit.normal-share:0.8}") double normalShare,
+                                  @Value("${app.concurrency-limit.low-share:0.5}") double lowShare) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.listEndpoints = new ListEndpoints(handlerMapping);
+        this.limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, tolerance);
+        shares.put(Priority.HIGH, 1.0);
+        shares.put(Priority.NORMAL, normalShare);
+        shares.put(Priority.LOW, lowShare);
+        for (Priority priority : Priority.values()) {
+            rejections.put(priority, new LongAdder());
+        }
+        meterRegistry.ifAvailable(this::registerMetrics);
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        Gauge.builder("http.server.admission.limit", limit, AdaptiveConcurrencyLimit::limit)
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+        Gauge.builder("http.server.admission.in-flight", limit, AdaptiveConcurrencyLimit::inFlight)
+                .description("API requests currently admitted")
+                .register(registry);
+        rejections.forEach((priority, count) ->
+                FunctionCounter.builder("http.server.admission.rejected", count, LongAdder::sum)
+                        .description("API requests shed with 503")
+                        .tag("priority", priority.name().toLowerCase())
+                        .register(registry));
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        if (!enabled || !httpRequest.getRequestURI().startsWith(RequestCategory.API_PREFIX)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        Priority priority = priorityOf(httpRequest);
+        if (!limit.tryAcquire(shares.get(priority))) {
+            rejections.get(priority).increment();
+            reject(httpRequest, (HttpServletResponse) response, priority);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limit.release(start, System.nanoTime());
+        }
+    }
+
+    Priority priorityOf(HttpServletRequest request) {
+        if (RequestCategory.includesAi(request)) {
+            return Priority.LOW;
+        }
+        return switch (RequestCategory.of(request, listEndpoints)) {
+            case READ -> Priority.HIGH;
+            case WRITE -> Priority.NORMAL;
+            case LIST, BULK -> Priority.LOW;
+        };
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Priority priority) throws IOException {
+        log.debug("Shedding {} priority request at limit {} - Path: {}", priority, limit.limit(), request.getRequestURI());
+        CommonResponse<Object> body = ResponseUtil.buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+                Constants.SERVER_OVERLOADED, List.of(Constants.SERVER_OVERLOADED), request);
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -1,18 +1,22 @@
 package com.sample.projects.postandcomments.config;
 
+import com.sample.projects.postandcomments.util.ClientIdentity;
+import com.sample.projects.postandcomments.util.IdGenerator;
+import com.sample.projects.postandcomments.util.ResponseUtil;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.UUID;
 
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
 public class CorrelationIdFilter implements Filter {
 
-    private static final String CORRELATION_ID = "correlationId";
     private static final String HEADER_NAME = "X-Correlation-Id";
 
     @Override
@@ -24,15 +28,18 @@ public class CorrelationIdFilter implements Filter {
 
         String correlationId = httpRequest.getHeader(HEADER_NAME);
         if (correlationId == null || correlationId.isBlank()) {
-            correlationId = UUID.randomUUID().toString();
+            correlationId = IdGenerator.nextId();
         }
 
         try {
-            MDC.put(CORRELATION_ID, correlationId);
+            MDC.put(ResponseUtil.CORRELATION_ID_MDC_KEY, correlationId);
+            // Also drives read-your-writes routing (ReadWriteRoutingDataSource)
+            MDC.put(ClientIdentity.MDC_KEY, ClientIdentity.resolve(httpRequest));
             httpResponse.setHeader(HEADER_NAME, correlationId);
             chain.doFilter(request, response);
         } finally {
-            MDC.remove(CORRELATION_ID);
+            MDC.remove(ResponseUtil.CORRELATION_ID_MDC_KEY);
+            MDC.remove(ClientIdentity.MDC_KEY);
         }
     }
 
@@ -0,0 +1,40 @@
+package com.sample.projects.postandcomments.config;
+
+import com.sample.projects.postandcomments.service.DataGeneratorService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// Runs the synthetic data generator once on startup under the datagen profile (see application-datagen.properties)
+@Slf4j
+@Component
+@Profile("datagen")
+public class DataGeneratorRunner implements ApplicationRunner {
+
+    private final DataGeneratorService dataGeneratorService;
+    private final ConfigurableApplicationContext applicationContext;
+    private final boolean exitWhenDone;
+
+    @Autowired
+    public DataGeneratorRunner(DataGeneratorService dataGeneratorService,
+                               ConfigurableApplicationContext applicationContext,
+                               @Value("${app.datagen.exit:true}") boolean exitWhenDone) {
+        this.dataGeneratorService = dataGeneratorService;
+        this.applicationContext = applicationContext;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        dataGeneratorService.generate();
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
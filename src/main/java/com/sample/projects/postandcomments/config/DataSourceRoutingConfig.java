@@ -0,0 +1,66 @@
+package com.sample.projects.postandcomments.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured pool with a primary/replica routing data source.
+ * The primary comes from {@code spring.datasource.*}, replicas from
+ * {@code app.datasource.replicas[n].url|username|password}.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${app.datasource.routing.read-your-writes-window:2s}") Duration readYourWritesWindow) {
+        return new ReadYourWritesTracker(readYourWritesWindow);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties,
+                                 Environment environment,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        HikariDataSource primary = buildPool(dataSourceProperties, "primary");
+        // Keep spring.datasource.hikari.* (pool sizes etc.) applying to the primary pool
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        List<DataSource> replicas = new ArrayList<>();
+        List<DataSourceProperties> replicaProperties = Binder.get(environment)
+                .bind("app.datasource.replicas", Bindable.listOf(DataSourceProperties.class))
+                .orElse(List.of());
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            replicas.add(buildPool(replicaProperties.get(i), "replica-" + i));
+        }
+        log.info("Routing read-only transactions across {} replica(s)", replicas.size());
+
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replicas, readYourWritesTracker));
+    }
+
+    private static HikariDataSource buildPool(DataSourceProperties properties, String name) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        pool.setPoolName("postcomments-" + name);
+        return pool;
+    }
+}
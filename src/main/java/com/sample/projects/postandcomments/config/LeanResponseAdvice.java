@@ -0,0 +1,149 @@
+package com.sample.projects.postandcomments.config;
+
+import com.sample.projects.postandcomments.dto.CommonResponse;
+import com.sample.projects.postandcomments.dto.response.PreSerializedPostResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Lean mode: on request, successful responses carry the bare payload and the envelope metadata moves to
+ * headers. Asked for with {@code Prefer: return=minimal} (RFC 7240) or an Accept profile, e.g.
+ * {@code Accept: application/json;profile=lean}. Errors, AI-enriched responses and responses with meta keep
+ * the envelope, since their extra fields do not fit in headers.
+ * <p>
+ * A lean body is the same bytes on every request for a cached post, so when server compression is on and the
+ * client accepts gzip, the post's precompressed JSON is written directly; the container skips responses that
+ * already carry a Content-Encoding. Enveloped responses hold a per-request trace id and are compressed by the
+ * container as they stream out.
+ */
+@RestControllerAdvice
+public class LeanResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String PREFER_MINIMAL = "return=minimal";
+    public static final String LEAN_PROFILE = "lean";
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+    public static final String API_VERSION_HEADER = "X-Api-Version";
+    public static final String TIMESTAMP_HEADER = "X-Timestamp";
+    private static final String PREFER_HEADER = "Prefer";
+    private static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+    private static final String GZIP = "gzip";
+
+    private final boolean compressionEnabled;
+    private final long minCompressedBytes;
+
+    public LeanResponseAdvice(@Value("${server.compression.enabled:false}") boolean compressionEnabled,
+                              @Value("${server.compression.min-response-size:2KB}") DataSize minResponseSize) {
+        this.compressionEnabled = compressionEnabled;
+        this.minCompressedBytes = minResponseSize.toBytes();
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        // JSON, Smile and CBOR
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        HttpHeaders headers = response.getHeaders();
+        headers.addAll(HttpHeaders.VARY, List.of(HttpHeaders.ACCEPT, PREFER_HEADER));
+        if (!(body instanceof CommonResponse<?> envelope) || !isLeanCandidate(envelope)) {
+            return body;
+        }
+        boolean preferMinimal = prefersMinimal(request.getHeaders());
+        if (!preferMinimal && !acceptsLeanProfile(request.getHeaders())) {
+            return body;
+        }
+
+        headers.set(TRACE_ID_HEADER, envelope.getTraceId());
+        headers.set(CORRELATION_ID_HEADER, envelope.getCorrelationId());
+        headers.set(API_VERSION_HEADER, envelope.getApiVersion());
+        headers.set(TIMESTAMP_HEADER, envelope.getTimestamp());
+        if (preferMinimal) {
+            headers.set(PREFERENCE_APPLIED_HEADER, PREFER_MINIMAL);
+        }
+        Object payload = envelope.getPayload();
+        if (payload instanceof PreSerializedPostResponse post && MediaType.APPLICATION_JSON.isCompatibleWith(selectedContentType)) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (usePrecompressed(post, request.getHeaders(), headers)) {
+                writeGzipped(post.gzipped(), selectedContentType, response);
+                // Body already written; a null body tells the return value handler there is nothing left to write
+                return null;
+            }
+        }
+        return payload;
+    }
+
+    private boolean usePrecompressed(PreSerializedPostResponse post, HttpHeaders requestHeaders, HttpHeaders responseHeaders) {
+        return compressionEnabled
+                && post.jsonLength() >= minCompressedBytes
+                && !responseHeaders.containsKey(HttpHeaders.CONTENT_ENCODING)
+                && acceptsGzip(requestHeaders);
+    }
+
+    private static void writeGzipped(byte[] gzipped, MediaType contentType, ServerHttpResponse response) {
+        HttpHeaders headers = response.getHeaders();
+        headers.setContentType(contentType);
+        headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+        headers.setContentLength(gzipped.length);
+        try {
+            response.getBody().write(gzipped);
+            response.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static boolean acceptsGzip(HttpHeaders requestHeaders) {
+        for (String acceptEncoding : requestHeaders.getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String coding : acceptEncoding.split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                    return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLeanCandidate(CommonResponse<?> envelope) {
+        return envelope.isSuccess() && envelope.getAiPayload() == null && envelope.getMeta() == null;
+    }
+
+    private static boolean prefersMinimal(HttpHeaders requestHeaders) {
+        for (String prefer : requestHeaders.getOrEmpty(PREFER_HEADER)) {
+            for (String preference : prefer.split(",")) {
+                if (preference.trim().equalsIgnoreCase(PREFER_MINIMAL)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsLeanProfile(HttpHeaders requestHeaders) {
+        for (MediaType accepted : requestHeaders.getAccept()) {
+            String profile = accepted.getParameter("profile");
+            if (profile != null && LEAN_PROFILE.equals(profile.replace("\"", ""))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,84 @@
+package com.sample.projects.postandcomments.config;
+
+import com.sample.projects.postandcomments.dto.CommonResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The list endpoints, taken from the MVC handler mapping: GET handlers whose response body, inside
+ * {@link ResponseEntity} and {@link CommonResponse}, is a collection. Resolved on first use, because
+ * filters are created before the handler mapping has detected the controllers.
+ */
+@Slf4j
+class ListEndpoints {
+
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+    private volatile List<RequestMappingInfo> mappings;
+
+    ListEndpoints(ObjectProvider<RequestMappingHandlerMapping> handlerMapping) {
+        this.handlerMapping = handlerMapping;
+    }
+
+    boolean matches(HttpServletRequest request) {
+        List<RequestMappingInfo> candidates = mappings();
+        if (candidates.isEmpty()) {
+            return false;
+        }
+        // Matching needs the parsed path, which the DispatcherServlet only sets up later
+        boolean parsed = ServletRequestPathUtils.hasParsedRequestPath(request);
+        if (!parsed) {
+            ServletRequestPathUtils.parseAndCache(request);
+        }
+        try {
+            for (RequestMappingInfo candidate : candidates) {
+                if (candidate.getMatchingCondition(request) != null) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            if (!parsed) {
+                ServletRequestPathUtils.clearParsedRequestPath(request);
+            }
+        }
+    }
+
+    private List<RequestMappingInfo> mappings() {
+        List<RequestMappingInfo> result = mappings;
+        if (result == null) {
+            RequestMappingHandlerMapping mapping = handlerMapping.getIfAvailable();
+            if (mapping == null) {
+                return List.of();
+            }
+            // Racing first requests compute the same list
+            result = mapping.getHandlerMethods().entrySet().stream()
+                    .filter(entry -> entry.getKey().getMethodsCondition().getMethods().contains(RequestMethod.GET))
+                    .filter(entry -> returnsCollection(entry.getValue()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            log.debug("List endpoints: {}", result);
+            mappings = result;
+        }
+        return result;
+    }
+
+    static boolean returnsCollection(HandlerMethod handlerMethod) {
+        ResolvableType body = ResolvableType.forMethodReturnType(handlerMethod.getMethod());
+        while (ResponseEntity.class.isAssignableFrom(body.toClass()) || CommonResponse.class.isAssignableFrom(body.toClass())) {
+            body = body.getGeneric(0);
+        }
+        return Collection.class.isAssignableFrom(body.toClass());
+    }
+}
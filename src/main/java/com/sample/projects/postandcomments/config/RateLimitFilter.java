@@ -0,0 +1,156 @@
+package com.sample.projects.postandcomments.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sample.projects.postandcomments.dto.CommonResponse;
+import com.sample.projects.postandcomments.util.ClientIdentity;
+import com.sample.projects.postandcomments.util.Constants;
+import com.sample.projects.postandcomments.util.ResponseUtil;
+import com.sample.projects.postandcomments.util.TokenBucket;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client rate limits on the expensive request categories: writes, list reads and AI-enriched requests,
+ * each with its own budget. Other reads are not limited. Buckets are keyed by the trusted client identity
+ * ({@link ClientIdentity#resolveTrusted}), never by request headers a client can set itself, and held in a
+ * bounded Caffeine cache per category; a bucket idle for its full refill time is dropped, since a
+ * new one would behave the same. Runs after {@link CorrelationIdFilter} so rejections carry the correlation id.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class RateLimitFilter implements Filter {
+
+    enum Category {
+        WRITE, LIST, AI
+    }
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Set<String> trustedProxies;
+    private final ListEndpoints listEndpoints;
+    private final Map<Category, Budget> budgets = new EnumMap<>(Category.class);
+
+    public RateLimitFilter(ObjectMapper objectMapper,
+                           @Qualifier("requestMappingHandlerMapping") ObjectProvider<RequestMappingHandlerMapping> handlerMapping,
+                           @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${app.rate-limit.trusted-proxies:}") List<String> trustedProxies,
+                           @Value("${app.rate-limit.max-clients:100000}") long maxClients,
+                           @Value("${app.rate-limit.write.capacity:60}") int writeCapacity,
+                           @Value("${app.rate-limit.write.per-second:20}") double writePerSecond,
+                           @Value("${app.rate-limit.list.capacity:30}") int listCapacity,
+                           @Value("${app.rate-limit.list.per-second:10}") double listPerSecond,
+                           @Value("${app.rate-limit.ai.capacity:10}") int aiCapacity,
+                           @Value("${app.rate-limit.ai.per-second:1}") double aiPerSecond) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.trustedProxies = Set.copyOf(trustedProxies);
+        this.listEndpoints = new ListEndpoints(handlerMapping);
+        budgets.put(Category.WRITE, new Budget(writeCapacity, writePerSecond, maxClients));
+        budgets.put(Category.LIST, new Budget(listCapacity, listPerSecond, maxClients));
+        budgets.put(Category.AI, new Budget(aiCapacity, aiPerSecond, maxClients));
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        if (enabled && httpRequest.getRequestURI().startsWith(RequestCategory.API_PREFIX)) {
+            long waitNanos = acquire(httpRequest);
+            if (waitNanos > 0) {
+                reject(httpRequest, (HttpServletResponse) response, waitNanos);
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    // Writes (bulk ones included) and list reads are exclusive; an AI-enriched request also spends from the AI budget
+    private long acquire(HttpServletRequest request) {
+        Category primary = switch (RequestCategory.of(request, listEndpoints)) {
+            case WRITE, BULK -> Category.WRITE;
+            case LIST -> Category.LIST;
+            case READ -> null;
+        };
+        boolean ai = RequestCategory.includesAi(request);
+        if (primary == null && !ai) {
+            return 0;
+        }
+        String client = ClientIdentity.resolveTrusted(request, trustedProxies);
+        long now = System.nanoTime();
+        if (primary != null) {
+            long wait = budgets.get(primary).tryAcquire(client, now);
+            if (wait > 0) {
+                return wait;
+            }
+        }
+        long wait = ai ? budgets.get(Category.AI).tryAcquire(client, now) : 0;
+        if (wait > 0 && primary != null) {
+            // The request is rejected, so it must not cost the client its write or list token
+            budgets.get(primary).refund(client);
+        }
+        return wait;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        log.warn("Rate limit exceeded for client {} - Path: {}", ClientIdentity.resolveTrusted(request, trustedProxies),
+                request.getRequestURI());
+        CommonResponse<Object> body = ResponseUtil.buildErrorResponse(HttpStatus.TOO_MANY_REQUESTS,
+                Constants.RATE_LIMIT_EXCEEDED, List.of(Constants.RATE_LIMIT_EXCEEDED), request);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private static final class Budget {
+
+        private final int capacity;
+        private final double perSecond;
+        private final Cache<String, TokenBucket> buckets;
+
+        Budget(int capacity, double perSecond, long maxClients) {
+            this.capacity = capacity;
+            this.perSecond = perSecond;
+            // After a full refill time without use a bucket is full again, the same as a new one
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxClients)
+                    .expireAfterAccess(Duration.ofNanos((long) (capacity * 1_000_000_000L / perSecond)))
+                    .build();
+        }
+
+        long tryAcquire(String client, long nowNanos) {
+            return buckets.get(client, key -> new TokenBucket(capacity, perSecond, nowNanos)).tryAcquire(nowNanos);
+        }
+
+        void refund(String client) {
+            TokenBucket bucket = buckets.getIfPresent(client);
+            if (bucket != null) {
+                bucket.refund();
+            }
+        }
+    }
+}
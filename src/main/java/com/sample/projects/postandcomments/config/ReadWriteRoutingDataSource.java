@@ -0,0 +1,82 @@
+package com.sample.projects.postandcomments.config;
+
+import com.sample.projects.postandcomments.util.ClientIdentity;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to a round-robin pool of replicas and
+ * everything else to the primary. A client that wrote within the read-your-writes window keeps
+ * reading from the primary, as does work run through {@link #onPrimary}. Must be wrapped in a LazyConnectionDataSourceProxy so the
+ * transaction's read-only flag is known when the physical connection is fetched.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA_PREFIX = "replica-";
+
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final int replicaCount;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      List<DataSource> replicas,
+                                      ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaCount = replicas.size();
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(REPLICA_PREFIX + i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Runs read-only work against the primary, for results that outlive the request (e.g. cache loads)
+     * and must not capture a replica that has not caught up with the latest commit yet.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        boolean nested = PRIMARY_READS.get() != null;
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (!nested) {
+                PRIMARY_READS.remove();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String clientId = MDC.get(ClientIdentity.MDC_KEY);
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesTracker.recordWrite(clientId);
+            }
+            return PRIMARY;
+        }
+        if (replicaCount == 0 || PRIMARY_READS.get() != null || readYourWritesTracker.wroteRecently(clientId)) {
+            return PRIMARY;
+        }
+        String replica = REPLICA_PREFIX + Math.floorMod(nextReplica.getAndIncrement(), replicaCount);
+        log.trace("Routing read-only transaction to {}", replica);
+        return replica;
+    }
+}
@@ -0,0 +1,47 @@
+package com.sample.projects.postandcomments.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which clients wrote recently so their reads stay on the primary until replicas have
+ * caught up. Entries expire after the window; the map is swept when it grows past its bound.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(String clientId) {
+        if (clientId == null || windowNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        lastWriteNanos.put(clientId, now);
+        if (lastWriteNanos.size() > SWEEP_THRESHOLD) {
+            lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+        }
+    }
+
+    public boolean wroteRecently(String clientId) {
+        if (clientId == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteNanos.get(clientId);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt > windowNanos) {
+            lastWriteNanos.remove(clientId, writtenAt);
+            return false;
+        }
+        return true;
+    }
+}
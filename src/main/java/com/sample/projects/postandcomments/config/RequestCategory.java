@@ -0,0 +1,33 @@
+package com.sample.projects.postandcomments.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Cost classes of API requests, shared by the rate limiter and the concurrency limiter. List reads are
+ * recognized by their handler, see {@link ListEndpoints}. Whether the request also asks for an AI
+ * explanation is orthogonal, see {@link #includesAi}.
+ */
+enum RequestCategory {
+
+    READ, LIST, WRITE, BULK;
+
+    static final String API_PREFIX = "/api/";
+    private static final String ADMIN_PREFIX = "/api/v1/admin/";
+    private static final String INCLUDE_AI_PARAM = "includeAi";
+
+    static RequestCategory of(HttpServletRequest request, ListEndpoints listEndpoints) {
+        String uri = request.getRequestURI();
+        if (uri.startsWith(ADMIN_PREFIX)) {
+            return BULK;
+        }
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method)) {
+            return WRITE;
+        }
+        return listEndpoints.matches(request) ? LIST : READ;
+    }
+
+    static boolean includesAi(HttpServletRequest request) {
+        return Boolean.parseBoolean(request.getParameter(INCLUDE_AI_PARAM));
+    }
+}
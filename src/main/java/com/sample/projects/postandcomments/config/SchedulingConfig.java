@@ -0,0 +1,12 @@
+package com.sample.projects.postandcomments.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background jobs (e.g. PostPurgeService) are driven explicitly in tests
+@Configuration
+@EnableScheduling
+@Profile("!test")
+public class SchedulingConfig {
+}
@@ -0,0 +1,58 @@
+package com.sample.projects.postandcomments.config;
+
+import com.sample.projects.postandcomments.service.SnapshotService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Snapshot commands driven by properties, e.g.
+ * {@code --app.snapshot.export-path=/tmp/staging.snap --app.snapshot.exit=true} to write one, or
+ * {@code --app.snapshot.import-path=/tmp/staging.snap} to bootstrap a fresh database on startup.
+ * Nothing happens when neither path is set.
+ */
+@Slf4j
+@Component
+public class SnapshotRunner implements ApplicationRunner {
+
+    private final SnapshotService snapshotService;
+    private final ConfigurableApplicationContext applicationContext;
+    private final String importPath;
+    private final String exportPath;
+    private final boolean exitWhenDone;
+
+    @Autowired
+    public SnapshotRunner(SnapshotService snapshotService,
+                          ConfigurableApplicationContext applicationContext,
+                          @Value("${app.snapshot.import-path:}") String importPath,
+                          @Value("${app.snapshot.export-path:}") String exportPath,
+                          @Value("${app.snapshot.exit:false}") boolean exitWhenDone) {
+        this.snapshotService = snapshotService;
+        this.applicationContext = applicationContext;
+        this.importPath = importPath;
+        this.exportPath = exportPath;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!importPath.isBlank()) {
+            log.info("Importing snapshot from {}", importPath);
+            snapshotService.importSnapshot(Path.of(importPath));
+        }
+        if (!exportPath.isBlank()) {
+            log.info("Exporting snapshot to {}", exportPath);
+            snapshotService.exportSnapshot(Path.of(exportPath));
+        }
+        if (exitWhenDone && (!importPath.isBlank() || !exportPath.isBlank())) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.sample.projects.postandcomments.controller;
+
+import com.sample.projects.postandcomments.dto.CommonResponse;
+import com.sample.projects.postandcomments.dto.request.PostBulkDeleteRequest;
+import com.sample.projects.postandcomments.dto.response.PostBulkDeleteResponse;
+import com.sample.projects.postandcomments.service.PostPurgeService;
+import com.sample.projects.postandcomments.util.Constants;
+import com.sample.projects.postandcomments.util.ResponseUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping(name = "Admin Post Controller", value = "/api/v1/admin/post")
+public class AdminPostController {
+
+    private final PostPurgeService postPurgeService;
+
+    @Autowired
+    public AdminPostController(PostPurgeService postPurgeService) {
+        this.postPurgeService = postPurgeService;
+    }
+
+    @PostMapping(name = "Bulk Delete Posts", value = "/bulk-delete")
+    public ResponseEntity<CommonResponse<PostBulkDeleteResponse>> bulkDelete(
+            @Valid @RequestBody PostBulkDeleteRequest request,
+            HttpServletRequest httpRequest) {
+        log.info("Bulk deleting postEntities: {}", request);
+        PostBulkDeleteResponse result = postPurgeService.bulkDelete(request);
+        log.debug("Bulk delete removed {} postEntities", result.getDeletedCount());
+        CommonResponse<PostBulkDeleteResponse> response = ResponseUtil.buildSuccessResponse(
+                HttpStatus.OK, Constants.POSTS_BULK_DELETED_SUCCESSFULLY, result, httpRequest);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,8 +1,14 @@
 package com.sample.projects.postandcomments.controller;
 
+import com.sample.projects.postandcomments.dto.request.PostCommentPatchRequest;
+import com.sample.projects.postandcomments.dto.request.PostCommentRequest;
+import com.sample.projects.postandcomments.dto.response.PostCommentResponse;
 import com.sample.projects.postandcomments.entity.PostCommentsEntity;
 import com.sample.projects.postandcomments.service.PostCommentService;
+import com.sample.projects.postandcomments.util.VersionTags;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -26,6 +32,12 @@ public class PostCommentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdComment);
     }
 
+    @PostMapping("/append")
+    public ResponseEntity<PostCommentResponse> appendComment(@Valid @RequestBody PostCommentRequest request) {
+        PostCommentResponse createdComment = postCommentService.addComment(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdComment);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<PostCommentsEntity> getCommentById(@PathVariable Long id) {
         return postCommentService.findById(id)
@@ -47,18 +59,20 @@ public class PostCommentController {
 
     @PutMapping("/{id}")
     public ResponseEntity<PostCommentsEntity> updateComment(@PathVariable Long id, @RequestBody PostCommentsEntity comment) {
-        if (!postCommentService.existsById(id)) {
-            return ResponseEntity.notFound().build();
-        }
         PostCommentsEntity updatedComment = postCommentService.update(id, comment);
         return ResponseEntity.ok(updatedComment);
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchComment(@PathVariable Long id,
+                                             @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                             @Valid @RequestBody PostCommentPatchRequest request) {
+        long version = postCommentService.patch(id, request, VersionTags.parseIfMatch(ifMatch));
+        return ResponseEntity.noContent().eTag(VersionTags.toETag(version)).build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteComment(@PathVariable Long id) {
-        if (!postCommentService.existsById(id)) {
-            return ResponseEntity.notFound().build();
-        }
         postCommentService.deleteById(id);
         return ResponseEntity.noContent().build();
     }
@@ -1,17 +1,21 @@
 package com.sample.projects.postandcomments.controller;
 
 import com.sample.projects.postandcomments.dto.CommonResponse;
+import com.sample.projects.postandcomments.dto.request.PostPatchRequest;
 import com.sample.projects.postandcomments.dto.request.PostRequest;
 import com.sample.projects.postandcomments.dto.response.PostResponse;
 import com.sample.projects.postandcomments.exception.ResourceNotFoundException;
 import com.sample.projects.postandcomments.service.AiService;
+import com.sample.projects.postandcomments.service.PostResponseCache;
 import com.sample.projects.postandcomments.service.PostService;
 import com.sample.projects.postandcomments.util.Constants;
 import com.sample.projects.postandcomments.util.ResponseUtil;
+import com.sample.projects.postandcomments.util.VersionTags;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -25,12 +29,15 @@ public class PostController {
 
     private final PostService postService;
     private final AiService aiService;
+    private final PostResponseCache postResponseCache;
 
     @Autowired
     public PostController(PostService postService,
-                          AiService aiService) {
+                          AiService aiService,
+                          PostResponseCache postResponseCache) {
         this.postService = postService;
         this.aiService = aiService;
+        this.postResponseCache = postResponseCache;
     }
 
     @PostMapping(name = "Create Post", value = "/create")
@@ -62,7 +69,8 @@ public class PostController {
             @RequestParam(name = "includeAi", defaultValue = "false") boolean includeAi,
             HttpServletRequest httpRequest) {
         log.info("Retrieving postEntity by id: {}, includeAi: {}", id, includeAi);
-        PostResponse post = postService.findById(id)
+        // Pre-serialized for hot posts; the envelope around it is still built per request
+        PostResponse post = postResponseCache.findById(id)
                 .orElseThrow(() -> {
                     log.warn("PostEntity not found with id: {}", id);
                     return new ResourceNotFoundException("PostEntity", id);
@@ -112,6 +120,17 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    // Title-only change in a single statement; If-Match makes it conditional on the version
+    @PatchMapping(name = "Patch Post", value = "/update/{id}")
+    public ResponseEntity<Void> patchPost(
+            @PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody PostPatchRequest request) {
+        log.info("Patching postEntity with id: {}, If-Match: {}", id, ifMatch);
+        long version = postService.patch(id, request, VersionTags.parseIfMatch(ifMatch));
+        return ResponseEntity.noContent().eTag(VersionTags.toETag(version)).build();
+    }
+
     @DeleteMapping(name = "Delete Post", value = "/delete/{id}")
     public ResponseEntity<CommonResponse<Object>> deletePost(
             @PathVariable Long id,
@@ -123,5 +142,28 @@ public class PostController {
                 HttpStatus.NO_CONTENT, "PostEntity deleted successfully", null, httpRequest);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).body(response);
     }
-}
 
+    @PutMapping(name = "Add Post Tag", value = "/{id}/tag/{tagId}")
+    public ResponseEntity<CommonResponse<Object>> addTag(
+            @PathVariable Long id,
+            @PathVariable Long tagId,
+            HttpServletRequest httpRequest) {
+        log.info("Adding tag {} to postEntity with id: {}", tagId, id);
+        postService.addTag(id, tagId);
+        CommonResponse<Object> response = ResponseUtil.buildSuccessResponse(
+                HttpStatus.OK, Constants.POST_TAG_ADDED_SUCCESSFULLY, null, httpRequest);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping(name = "Remove Post Tag", value = "/{id}/tag/{tagId}")
+    public ResponseEntity<CommonResponse<Object>> removeTag(
+            @PathVariable Long id,
+            @PathVariable Long tagId,
+            HttpServletRequest httpRequest) {
+        log.info("Removing tag {} from postEntity with id: {}", tagId, id);
+        postService.removeTag(id, tagId);
+        CommonResponse<Object> response = ResponseUtil.buildSuccessResponse(
+                HttpStatus.OK, Constants.POST_TAG_REMOVED_SUCCESSFULLY, null, httpRequest);
+        return ResponseEntity.ok(response);
+    }
+}
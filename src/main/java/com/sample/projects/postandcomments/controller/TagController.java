@@ -1,8 +1,12 @@
 package com.sample.projects.postandcomments.controller;
 
+import com.sample.projects.postandcomments.dto.request.TagRequest;
 import com.sample.projects.postandcomments.entity.TagEntity;
 import com.sample.projects.postandcomments.service.TagService;
+import com.sample.projects.postandcomments.util.VersionTags;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -48,18 +52,20 @@ public class TagController {
 
     @PutMapping("/{id}")
     public ResponseEntity<TagEntity> updateTag(@PathVariable Long id, @RequestBody TagEntity tagEntity) {
-        if (!tagService.existsById(id)) {
-            return ResponseEntity.notFound().build();
-        }
         TagEntity updatedTagEntity = tagService.update(id, tagEntity);
         return ResponseEntity.ok(updatedTagEntity);
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchTag(@PathVariable Long id,
+                                         @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                         @Valid @RequestBody TagRequest request) {
+        long version = tagService.patch(id, request, VersionTags.parseIfMatch(ifMatch));
+        return ResponseEntity.noContent().eTag(VersionTags.toETag(version)).build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTag(@PathVariable Long id) {
-        if (!tagService.existsById(id)) {
-            return ResponseEntity.notFound().build();
-        }
         tagService.deleteById(id);
         return ResponseEntity.noContent().build();
     }
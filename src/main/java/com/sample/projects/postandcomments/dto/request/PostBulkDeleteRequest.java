@@ -0,0 +1,28 @@
+package com.sample.projects.postandcomments.dto.request;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Selects the posts to remove: either an explicit id list, or a tag and/or a creation cut-off.
+ * When both tagId and createdBefore are given a postEntity has to match both.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostBulkDeleteRequest {
+
+    @Size(max = 10000, message = "At most 10000 ids can be deleted per request")
+    private Set<Long> ids;
+
+    private Long tagId;
+
+    private LocalDateTime createdBefore;
+}
@@ -0,0 +1,17 @@
+package com.sample.projects.postandcomments.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCommentPatchRequest {
+
+    @NotBlank(message = "Review Is Required")
+    private String comment;
+}
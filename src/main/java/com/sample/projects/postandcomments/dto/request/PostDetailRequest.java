@@ -2,6 +2,7 @@ package com.sample.projects.postandcomments.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,6 +19,7 @@ public class PostDetailRequest {
 
     @NotNull(message = "Description Is Required")
     @NotBlank(message = "Description Does Not Blank")
+    @Size(max = 5000, message = "Description Must Not Exceed 5000 Characters")
     private String description;
 }
 
@@ -0,0 +1,15 @@
+package com.sample.projects.postandcomments.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostBulkDeleteResponse {
+
+    private long deletedCount;
+}
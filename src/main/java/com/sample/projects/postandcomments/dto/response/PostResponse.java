@@ -28,5 +28,7 @@ public class PostResponse {
     private LocalDateTime createdAt;
     
     private LocalDateTime updatedAt;
+
+    private Long version;
 }
 
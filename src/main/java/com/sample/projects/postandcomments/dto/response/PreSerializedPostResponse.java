@@ -0,0 +1,77 @@
+package com.sample.projects.postandcomments.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A {@link PostResponse} carrying its own JSON, so a cached post is written into the response envelope as a
+ * copy of its UTF-8 bytes instead of being serialized again. Binary formats (Smile, CBOR) cannot embed raw
+ * JSON and fall back to the regular bean serializer. Shared between requests: treat as read-only.
+ * <p>
+ * The gzip form of the JSON is built on first use and kept, so lean responses for a hot post are compressed
+ * once rather than on every request.
+ */
+public class PreSerializedPostResponse extends PostResponse implements JsonSerializable {
+
+    private final SerializedString json;
+    // Racing first requests may each compress; the results are identical
+    private volatile byte[] gzipped;
+
+    public PreSerializedPostResponse(PostResponse source, String json) {
+        super(source.getId(), source.getTitle(), source.getPostDetailResponse(), source.getComments(),
+                source.getTags(), source.getCreatedAt(), source.getUpdatedAt(), source.getVersion());
+        this.json = new SerializedString(json);
+    }
+
+    public int jsonLength() {
+        return json.asUnquotedUTF8().length;
+    }
+
+    public byte[] gzipped() {
+        byte[] bytes = gzipped;
+        if (bytes == null) {
+            bytes = gzip(json.asUnquotedUTF8());
+            gzipped = bytes;
+        }
+        return bytes;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (gen.canWriteBinaryNatively()) {
+            serializers.findValueSerializer(PostResponse.class).serialize(this, gen, serializers);
+        } else {
+            gen.writeRawValue(json);
+        }
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, serializers);
+    }
+
+    private static byte[] gzip(byte[] utf8) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(utf8.length / 4 + 64);
+        // Paid once per cached entry, so trade CPU for the smallest body
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(utf8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,51 @@
+package com.sample.projects.postandcomments.dto.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.sample.projects.postandcomments.dto.CommonResponse;
+
+import java.io.IOException;
+
+// The payload goes through the provider, so it resolves to the DTO serializers (or raw cached JSON) by runtime type
+public class CommonResponseSerializer extends DtoSerializer<CommonResponse<?>> {
+
+    static final CommonResponseSerializer INSTANCE = new CommonResponseSerializer();
+
+    private static final SerializedString STATUS = name("status");
+    private static final SerializedString MESSAGE = name("message");
+    private static final SerializedString PAYLOAD = name("payload");
+    private static final SerializedString AI_PAYLOAD = name("aiPayload");
+    private static final SerializedString SUCCESS = name("success");
+    private static final SerializedString TIMESTAMP = name("timestamp");
+    private static final SerializedString PATH = name("path");
+    private static final SerializedString TRACE_ID = name("traceId");
+    private static final SerializedString ERRORS = name("errors");
+    private static final SerializedString META = name("meta");
+    private static final SerializedString API_VERSION = name("apiVersion");
+    private static final SerializedString CORRELATION_ID = name("correlationId");
+
+    private CommonResponseSerializer() {
+        super(CommonResponse.class);
+    }
+
+    @Override
+    public void serialize(CommonResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(STATUS);
+        gen.writeNumber(value.getStatus());
+        writeString(gen, MESSAGE, value.getMessage());
+        writeValue(gen, PAYLOAD, value.getPayload(), provider);
+        writeValue(gen, AI_PAYLOAD, value.getAiPayload(), provider);
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(value.isSuccess());
+        writeString(gen, TIMESTAMP, value.getTimestamp());
+        writeString(gen, PATH, value.getPath());
+        writeString(gen, TRACE_ID, value.getTraceId());
+        writeStrings(gen, ERRORS, value.getErrors());
+        writeValue(gen, META, value.getMeta(), provider);
+        writeString(gen, API_VERSION, value.getApiVersion());
+        writeString(gen, CORRELATION_ID, value.getCorrelationId());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,61 @@
+package com.sample.projects.postandcomments.dto.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Base for the handwritten response serializers: pre-encoded field names and null-aware field writers.
+ * Fields are written in declaration order with nulls included, matching Jackson's defaults for these DTOs.
+ */
+abstract class DtoSerializer<T> extends StdSerializer<T> {
+
+    // Class<?> so generic DTOs (CommonResponse<?>) can pass their raw class
+    protected DtoSerializer(Class<?> type) {
+        super(type, false);
+    }
+
+    protected static SerializedString name(String name) {
+        return new SerializedString(name);
+    }
+
+    protected static void writeLong(JsonGenerator gen, SerializableString name, Long value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    protected static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeString(value);
+    }
+
+    protected static void writeStrings(JsonGenerator gen, SerializableString name, List<String> values)
+            throws IOException {
+        gen.writeFieldName(name);
+        if (values == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(values, values.size());
+        for (String value : values) {
+            gen.writeString(value);
+        }
+        gen.writeEndArray();
+    }
+
+    // Dates, maps and anything else configured on the mapper
+    protected static void writeValue(JsonGenerator gen, SerializableString name, Object value,
+                                     SerializerProvider provider) throws IOException {
+        gen.writeFieldName(name);
+        provider.defaultSerializeValue(value, gen);
+    }
+}
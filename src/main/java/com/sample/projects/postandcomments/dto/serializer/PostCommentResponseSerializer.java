@@ -0,0 +1,35 @@
+package com.sample.projects.postandcomments.dto.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.sample.projects.postandcomments.dto.response.PostCommentResponse;
+
+import java.io.IOException;
+
+public class PostCommentResponseSerializer extends DtoSerializer<PostCommentResponse> {
+
+    static final PostCommentResponseSerializer INSTANCE = new PostCommentResponseSerializer();
+
+    private static final SerializedString ID = name("id");
+    private static final SerializedString REVIEW = name("review");
+    private static final SerializedString POST_ID = name("postId");
+    private static final SerializedString CREATED_AT = name("createdAt");
+    private static final SerializedString UPDATED_AT = name("updatedAt");
+
+    private PostCommentResponseSerializer() {
+        super(PostCommentResponse.class);
+    }
+
+    @Override
+    public void serialize(PostCommentResponse value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(value);
+        writeLong(gen, ID, value.getId());
+        writeString(gen, REVIEW, value.getReview());
+        writeLong(gen, POST_ID, value.getPostId());
+        writeValue(gen, CREATED_AT, value.getCreatedAt(), provider);
+        writeValue(gen, UPDATED_AT, value.getUpdatedAt(), provider);
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,35 @@
+package com.sample.projects.postandcomments.dto.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.sample.projects.postandcomments.dto.response.PostDetailResponse;
+
+import java.io.IOException;
+
+public class PostDetailResponseSerializer extends DtoSerializer<PostDetailResponse> {
+
+    static final PostDetailResponseSerializer INSTANCE = new PostDetailResponseSerializer();
+
+    private static final SerializedString ID = name("id");
+    private static final SerializedString POST_ID = name("postId");
+    private static final SerializedString DESCRIPTION = name("description");
+    private static final SerializedString CREATED_AT = name("createdAt");
+    private static final SerializedString UPDATED_AT = name("updatedAt");
+
+    private PostDetailResponseSerializer() {
+        super(PostDetailResponse.class);
+    }
+
+    @Override
+    public void serialize(PostDetailResponse value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(value);
+        writeLong(gen, ID, value.getId());
+        writeLong(gen, POST_ID, value.getPostId());
+        writeString(gen, DESCRIPTION, value.getDescription());
+        writeValue(gen, CREATED_AT, value.getCreatedAt(), provider);
+        writeValue(gen, UPDATED_AT, value.getUpdatedAt(), provider);
+        gen.writeEndObject();
+    }
+}
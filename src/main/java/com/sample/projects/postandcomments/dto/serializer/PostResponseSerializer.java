@@ -0,0 +1,69 @@
+package com.sample.projects.postandcomments.dto.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.sample.projects.postandcomments.dto.response.PostCommentResponse;
+import com.sample.projects.postandcomments.dto.response.PostResponse;
+import com.sample.projects.postandcomments.dto.response.TagResponse;
+
+import java.io.IOException;
+
+public class PostResponseSerializer extends DtoSerializer<PostResponse> {
+
+    static final PostResponseSerializer INSTANCE = new PostResponseSerializer();
+
+    private static final SerializedString ID = name("id");
+    private static final SerializedString TITLE = name("title");
+    private static final SerializedString POST_DETAIL_RESPONSE = name("postDetailResponse");
+    private static final SerializedString COMMENTS = name("comments");
+    private static final SerializedString TAGS = name("tags");
+    private static final SerializedString CREATED_AT = name("createdAt");
+    private static final SerializedString UPDATED_AT = name("updatedAt");
+    private static final SerializedString VERSION = name("version");
+
+    private PostResponseSerializer() {
+        super(PostResponse.class);
+    }
+
+    @Override
+    public void serialize(PostResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        writeLong(gen, ID, value.getId());
+        writeString(gen, TITLE, value.getTitle());
+
+        gen.writeFieldName(POST_DETAIL_RESPONSE);
+        if (value.getPostDetailResponse() == null) {
+            gen.writeNull();
+        } else {
+            PostDetailResponseSerializer.INSTANCE.serialize(value.getPostDetailResponse(), gen, provider);
+        }
+
+        gen.writeFieldName(COMMENTS);
+        if (value.getComments() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(value.getComments(), value.getComments().size());
+            for (PostCommentResponse comment : value.getComments()) {
+                PostCommentResponseSerializer.INSTANCE.serialize(comment, gen, provider);
+            }
+            gen.writeEndArray();
+        }
+
+        gen.writeFieldName(TAGS);
+        if (value.getTags() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(value.getTags(), value.getTags().size());
+            for (TagResponse tag : value.getTags()) {
+                TagResponseSerializer.INSTANCE.serialize(tag, gen, provider);
+            }
+            gen.writeEndArray();
+        }
+
+        writeValue(gen, CREATED_AT, value.getCreatedAt(), provider);
+        writeValue(gen, UPDATED_AT, value.getUpdatedAt(), provider);
+        writeLong(gen, VERSION, value.getVersion());
+        gen.writeEndObject();
+    }
+}
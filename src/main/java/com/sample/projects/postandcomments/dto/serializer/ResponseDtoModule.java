@@ -0,0 +1,65 @@
+package com.sample.projects.postandcomments.dto.serializer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.sample.projects.postandcomments.dto.CommonResponse;
+import com.sample.projects.postandcomments.dto.response.PostCommentResponse;
+import com.sample.projects.postandcomments.dto.response.PostDetailResponse;
+import com.sample.projects.postandcomments.dto.response.PostResponse;
+import com.sample.projects.postandcomments.dto.response.TagResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Registers the handwritten serializers for the response envelope and post DTOs with Boot's ObjectMapper,
+ * replacing bean introspection and reflective getter calls with direct generator writes. Matched on exact
+ * class, so subclasses with their own serialization (PreSerializedPostResponse) are left alone. Mappers
+ * configured in ways these serializers do not replicate (null exclusion, naming strategies, sorted properties)
+ * keep the default bean serializers.
+ */
+@Component
+public class ResponseDtoModule extends SimpleModule {
+
+    public ResponseDtoModule() {
+        super(ResponseDtoModule.class.getSimpleName());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addSerializers(new DtoSerializers());
+    }
+
+    private static final class DtoSerializers extends Serializers.Base {
+
+        private static final Map<Class<?>, JsonSerializer<?>> SERIALIZERS = Map.of(
+                CommonResponse.class, CommonResponseSerializer.INSTANCE,
+                PostResponse.class, PostResponseSerializer.INSTANCE,
+                PostDetailResponse.class, PostDetailResponseSerializer.INSTANCE,
+                PostCommentResponse.class, PostCommentResponseSerializer.INSTANCE,
+                TagResponse.class, TagResponseSerializer.INSTANCE);
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            JsonSerializer<?> serializer = SERIALIZERS.get(type.getRawClass());
+            if (serializer == null || !matchesDefaults(config)) {
+                return null;
+            }
+            return serializer;
+        }
+
+        private static boolean matchesDefaults(SerializationConfig config) {
+            JsonInclude.Include inclusion = config.getDefaultPropertyInclusion().getValueInclusion();
+            return (inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS)
+                    && config.getPropertyNamingStrategy() == null
+                    && !config.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY);
+        }
+    }
+}
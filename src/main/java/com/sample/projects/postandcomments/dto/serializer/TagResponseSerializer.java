@@ -0,0 +1,28 @@
+package com.sample.projects.postandcomments.dto.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.sample.projects.postandcomments.dto.response.TagResponse;
+
+import java.io.IOException;
+
+public class TagResponseSerializer extends DtoSerializer<TagResponse> {
+
+    static final TagResponseSerializer INSTANCE = new TagResponseSerializer();
+
+    private static final SerializedString ID = name("id");
+    private static final SerializedString NAME = name("name");
+
+    private TagResponseSerializer() {
+        super(TagResponse.class);
+    }
+
+    @Override
+    public void serialize(TagResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        writeLong(gen, ID, value.getId());
+        writeString(gen, NAME, value.getName());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,38 @@
+package com.sample.projects.postandcomments.entity;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sample.projects.postandcomments.util.TextCompression;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Stores long text in the {@link TextCompression} binary format. Second-level cache entries hold the
+ * column form too, so decoded values of compressed hot rows are kept in a small cache keyed by content.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    private static final long DECODED_CACHE_MAX_WEIGHT = 16L * 1024 * 1024;
+
+    private static final Cache<ByteBuffer, String> DECODED = Caffeine.newBuilder()
+            .maximumWeight(DECODED_CACHE_MAX_WEIGHT)
+            .weigher((ByteBuffer encoded, String text) -> encoded.capacity() + 2 * text.length())
+            .build();
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return TextCompression.encode(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        if (!TextCompression.isCompressed(dbData)) {
+            return TextCompression.decode(dbData);
+        }
+        // JDBC hands out a fresh array per read, so it is safe to use as a key
+        return DECODED.get(ByteBuffer.wrap(dbData), key -> TextCompression.decode(dbData));
+    }
+}
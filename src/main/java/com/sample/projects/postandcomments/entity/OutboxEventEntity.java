@@ -0,0 +1,67 @@
+package com.sample.projects.postandcomments.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compact change record written by the service layer in the same transaction as the change itself.
+ * Carries identifiers only; subscribers re-read whatever state they need.
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "OutboxEvent")
+@Table(name = "outbox")
+public class OutboxEventEntity {
+
+    public enum AggregateType { POST, POST_DETAIL, COMMENT, TAG }
+
+    public enum ChangeType { CREATED, UPDATED, DELETED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 16)
+    private AggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    // Owning postEntity, so per-post read models can invalidate without a lookup; null for tags
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    private ChangeType changeType;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OutboxEventEntity)) return false;
+        return id != null && id.equals(((OutboxEventEntity) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
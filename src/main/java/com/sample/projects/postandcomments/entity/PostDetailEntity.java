@@ -7,6 +7,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
@@ -16,6 +18,7 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @Entity(name = "PostDetailEntity")
 @Table(name = "post_detail")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post-detail")
 public class PostDetailEntity extends BaseEntity {
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -23,9 +26,18 @@ public class PostDetailEntity extends BaseEntity {
     @JoinColumn(name = "id")
     private PostEntity postEntity;
 
-    @Column(length = 5000)
+    // Up to 5000 characters, compressed above a threshold (see TextCompression)
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(length = 15001)
     private String description;
 
+    // Set instead of description when the description is kept in the blob store
+    @Column(name = "description_hash", length = 64)
+    private String descriptionHash;
+
+    @Column(name = "description_length")
+    private Integer descriptionLength;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
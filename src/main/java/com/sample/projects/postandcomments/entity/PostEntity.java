@@ -5,6 +5,10 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
@@ -19,8 +23,17 @@ import java.util.Set;
 @AllArgsConstructor
 @Entity(name = "PostEntity")
 @Table(name = "post")
+// Every read skips rows with deleted = TRUE; the rows and their children are purged in the background.
+// A plain restriction rather than @SoftDelete, which forbids the LAZY to-one associations pointing here.
+@SQLRestriction("deleted = false")
 public class PostEntity extends BaseEntity {
 
+    // Only PostRepository.softDeleteById sets the tombstone
+    @Column(nullable = false)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private boolean deleted = false;
+
     @NotBlank(message = "Title is required")
     @Size(min = 1, max = 255, message = "Title must be between 1 and 255 characters")
     @Column(nullable = false, length = 255)
@@ -53,6 +66,7 @@ public class PostEntity extends BaseEntity {
             joinColumns = @JoinColumn(name = "post_id"),
             inverseJoinColumns = @JoinColumn(name = "tag_id")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post-tags")
     @Builder.Default
     private Set<TagEntity> tagEntities = new LinkedHashSet<>();
 
@@ -71,7 +85,9 @@ public class PostEntity extends BaseEntity {
         }
     }
 
-    // The addTag method is used for synchronizing the bidirectional association
+    // The addTag method is used for synchronizing the bidirectional association.
+    // The inverse side is only touched when it is already loaded, so tagging a postEntity
+    // never pulls in every other postEntity that carries the same tag.
     public void addTag(TagEntity tagEntity) {
         if (tagEntities == null) {
             tagEntities = new LinkedHashSet<>();
@@ -80,7 +96,9 @@ public class PostEntity extends BaseEntity {
         if (tagEntity.getPostEntities() == null) {
             tagEntity.setPostEntities(new LinkedHashSet<>());
         }
-        tagEntity.getPostEntities().add(this);
+        if (Hibernate.isInitialized(tagEntity.getPostEntities())) {
+            tagEntity.getPostEntities().add(this);
+        }
     }
 
     // The removeTag method is used for synchronizing the bidirectional association
@@ -88,7 +106,7 @@ public class PostEntity extends BaseEntity {
         if (tagEntities != null) {
             tagEntities.remove(tagEntity);
         }
-        if (tagEntity.getPostEntities() != null) {
+        if (tagEntity.getPostEntities() != null && Hibernate.isInitialized(tagEntity.getPostEntities())) {
             tagEntity.getPostEntities().remove(this);
         }
     }
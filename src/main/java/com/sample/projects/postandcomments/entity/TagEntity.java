@@ -8,7 +8,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.HashSet;
 import java.util.Objects;
@@ -22,10 +25,13 @@ import java.util.Set;
 @AllArgsConstructor
 @Entity(name = "Tag")
 @Table(name = "tag")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tag")
+@NaturalIdCache(region = "tag-natural-id")
 public class TagEntity extends BaseEntity {
 
+    // Mutable because TagService.update renames tags
     @Column(nullable = false, unique = true)
-    @NaturalId
+    @NaturalId(mutable = true)
     private String name;
 
     @ManyToMany(
@@ -0,0 +1,12 @@
+package com.sample.projects.postandcomments.exception;
+
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    public ConflictException(String resourceName, Long id) {
+        super(String.format("%s with id %d was modified concurrently", resourceName, id));
+    }
+}
@@ -9,6 +9,7 @@ import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -29,6 +30,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<CommonResponse<Object>> handleConflictException(
+            ConflictException ex, HttpServletRequest request) {
+        log.warn("Conflict: {} - Path: {}", ex.getMessage(), request.getRequestURI());
+        CommonResponse<Object> response = ResponseUtil.buildErrorResponse(
+                HttpStatus.CONFLICT, ex.getMessage(), List.of(ex.getMessage()), request);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    // Raised at flush when a load-modify-save update loses the race on @Version
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<CommonResponse<Object>> handleOptimisticLockingFailureException(
+            ObjectOptimisticLockingFailureException ex, HttpServletRequest request) {
+        String message = String.format("%s with id %s was modified concurrently",
+                ex.getPersistentClassName(), ex.getIdentifier());
+        log.warn("Optimistic lock failure: {} - Path: {}", message, request.getRequestURI());
+        CommonResponse<Object> response = ResponseUtil.buildErrorResponse(
+                HttpStatus.CONFLICT, message, List.of(message), request);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<CommonResponse<Object>> handleValidationException(
             ValidationException ex, HttpServletRequest request) {
@@ -67,6 +89,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<CommonResponse<Object>> handleServiceUnavailableException(
+            ServiceUnavailableException ex, HttpServletRequest request) {
+        log.warn("Service unavailable: {} - Path: {}", ex.getMessage(), request.getRequestURI());
+        CommonResponse<Object> response = ResponseUtil.buildErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), List.of(ex.getMessage()), request);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<CommonResponse<Object>> handleIllegalArgumentException(
             IllegalArgumentException ex, HttpServletRequest request) {
@@ -6,6 +6,7 @@ import com.sample.projects.postandcomments.entity.PostDetailEntity;
 import com.sample.projects.postandcomments.entity.PostEntity;
 import com.sample.projects.postandcomments.exception.ResourceNotFoundException;
 import com.sample.projects.postandcomments.repository.PostRepository;
+import com.sample.projects.postandcomments.service.DescriptionBlobService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -16,9 +17,11 @@ import java.util.List;
 public class PostDetailMapper {
 
     private final PostRepository postRepository;
+    private final DescriptionBlobService descriptionBlobService;
 
-    public PostDetailMapper(PostRepository postRepository) {
+    public PostDetailMapper(PostRepository postRepository, DescriptionBlobService descriptionBlobService) {
         this.postRepository = postRepository;
+        this.descriptionBlobService = descriptionBlobService;
     }
 
     public PostDetailEntity toPostDetailEntity(PostDetailRequest postDetailRequest){
@@ -44,13 +47,20 @@ public class PostDetailMapper {
         PostDetailResponse.PostDetailResponseBuilder builder = PostDetailResponse.builder()
                 .id(postDetailEntity.getId())
                 .postId(postDetailEntity.getPostEntity() != null ? postDetailEntity.getPostEntity().getId() : null)
-                .description(postDetailEntity.getDescription())
+                .description(descriptionOf(postDetailEntity))
                 .createdAt(postDetailEntity.getCreatedAt())
                 .updatedAt(postDetailEntity.getUpdatedAt());
 
         return builder.build();
     }
 
+    private String descriptionOf(PostDetailEntity postDetailEntity) {
+        if (postDetailEntity.getDescriptionHash() == null) {
+            return postDetailEntity.getDescription();
+        }
+        return descriptionBlobService.get(postDetailEntity.getDescriptionHash(), postDetailEntity.getDescriptionLength());
+    }
+
     public List<PostDetailResponse> toPostDetailResponses(List<PostDetailEntity> postDetailEntities){
         if(postDetailEntities == null) {
             return null;
@@ -36,7 +36,8 @@ public class PostMapper {
                 .id(postEntity.getId())
                 .title(postEntity.getTitle())
                 .createdAt(postEntity.getCreatedAt())
-                .updatedAt(postEntity.getUpdatedAt());
+                .updatedAt(postEntity.getUpdatedAt())
+                .version(postEntity.getVersion());
 
         // Map postEntity details
         if (postEntity.getPostDetailEntity() != null) {
@@ -0,0 +1,42 @@
+package com.sample.projects.postandcomments.repository;
+
+import com.sample.projects.postandcomments.entity.OutboxEventEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    @Query(value = "SELECT * FROM outbox WHERE published_at IS NULL ORDER BY id FETCH FIRST :limit ROWS ONLY",
+            nativeQuery = true)
+    List<OutboxEventEntity> findUnpublished(@Param("limit") int limit);
+
+    // One statement per bulk-delete chunk; only rows that still exist produce an event.
+    // The query space keeps this insert from invalidating the second-level cache.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "outbox"))
+    @Query(value = "INSERT INTO outbox (aggregate_type, aggregate_id, post_id, change_type, created_at) "
+            + "SELECT 'POST', id, id, :changeType, CURRENT_TIMESTAMP FROM post WHERE id IN (:postIds)",
+            nativeQuery = true)
+    int appendForPosts(@Param("postIds") Collection<Long> postIds, @Param("changeType") String changeType);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "outbox"))
+    @Query(value = "DELETE FROM outbox WHERE published_at < :publishedBefore", nativeQuery = true)
+    int deletePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore);
+
+}
@@ -1,10 +1,61 @@
 package com.sample.projects.postandcomments.repository;
 
 import com.sample.projects.postandcomments.entity.PostCommentsEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PostCommentRepository extends JpaRepository<PostCommentsEntity, Long> {
-}
 
+    // Derived queries compare post_id without touching post, so a tombstoned postEntity would still list its comments
+    @Query(value = "SELECT c.* FROM post_comments c JOIN post p ON p.id = c.post_id "
+            + "WHERE c.post_id = :postId AND p.deleted = FALSE ORDER BY c.id", nativeQuery = true)
+    List<PostCommentsEntity> findByLivePostIdOrderByIdAsc(@Param("postId") Long postId);
+
+    // Comments are only visible while their postEntity is live
+    @Query("SELECT c FROM PostCommentEntity c JOIN c.postEntity p WHERE c.id = :id AND p.deleted = false")
+    Optional<PostCommentsEntity> findLiveById(@Param("id") Long id);
+
+    @Query("SELECT c FROM PostCommentEntity c JOIN c.postEntity p WHERE p.deleted = false ORDER BY c.id")
+    List<PostCommentsEntity> findAllLive();
+
+    @Query("SELECT COUNT(c) > 0 FROM PostCommentEntity c JOIN c.postEntity p WHERE c.id = :id AND p.deleted = false")
+    boolean existsLiveById(@Param("id") Long id);
+
+    // Owning postEntity id for comment updates that never load the comment
+    @Query("SELECT c.postEntity.id FROM PostCommentEntity c WHERE c.id = :id")
+    Optional<Long> findPostIdById(@Param("id") Long id);
+
+    // Bounded so a postEntity with many thousands of comments is removed over several short transactions
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post_comments"))
+    @Query(value = "DELETE FROM post_comments WHERE post_id IN (:postIds) FETCH FIRST :limit ROWS ONLY",
+            nativeQuery = true)
+    int deleteChunkByPostIds(@Param("postIds") Collection<Long> postIds, @Param("limit") int limit);
+
+    // Single-statement update; a null expectedVersion makes it unconditional. Comments of a tombstoned
+    // postEntity are left untouched.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PostCommentEntity c SET c.comment = :comment, c.updatedAt = :updatedAt, c.version = c.version + 1 "
+            + "WHERE c.id = :id AND (:expectedVersion IS NULL OR c.version = :expectedVersion) "
+            + "AND c.postEntity.id IN (SELECT p.id FROM PostEntity p WHERE p.deleted = false)")
+    int updateComment(@Param("id") Long id,
+                      @Param("comment") String comment,
+                      @Param("updatedAt") LocalDateTime updatedAt,
+                      @Param("expectedVersion") Long expectedVersion);
+
+    @Query("SELECT c.version FROM PostCommentEntity c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+}
@@ -1,15 +1,35 @@
 package com.sample.projects.postandcomments.repository;
 
 import com.sample.projects.postandcomments.entity.PostDetailEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostDetailRepository extends JpaRepository<PostDetailEntity, Long> {
 
-    Optional<PostDetailEntity> findByPostEntity_Id(Long postId);
+    // post_detail shares its id with post; the join hides details of tombstoned postEntities
+    @Query(value = "SELECT d.* FROM post_detail d JOIN post p ON p.id = d.id WHERE d.id = :postId AND p.deleted = FALSE",
+            nativeQuery = true)
+    Optional<PostDetailEntity> findByLivePostId(@Param("postId") Long postId);
 
-}
+    @Query("SELECT d FROM PostDetailEntity d JOIN d.postEntity p WHERE p.deleted = false ORDER BY d.id")
+    List<PostDetailEntity> findAllLive();
+
+    boolean existsByDescriptionHash(String descriptionHash);
 
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post_detail"))
+    @Query(value = "DELETE FROM post_detail WHERE id IN (:postIds)", nativeQuery = true)
+    int deleteAllByPostIds(@Param("postIds") Collection<Long> postIds);
+
+}
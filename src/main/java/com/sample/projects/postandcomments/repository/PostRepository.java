@@ -1,10 +1,93 @@
 package com.sample.projects.postandcomments.repository;
 
 import com.sample.projects.postandcomments.entity.PostEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PostRepository extends JpaRepository<PostEntity, Long> {
-}
 
+    // Writes the join row directly so neither PostEntity.tagEntities nor TagEntity.postEntities is loaded.
+    // The query space limits second-level cache invalidation to regions backed by post_tag.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post_tag"))
+    @Query(value = "MERGE INTO post_tag (post_id, tag_id) KEY (post_id, tag_id) VALUES (:postId, :tagId)",
+            nativeQuery = true)
+    int addTagAssociation(@Param("postId") Long postId, @Param("tagId") Long tagId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post_tag"))
+    @Query(value = "DELETE FROM post_tag WHERE post_id = :postId AND tag_id = :tagId", nativeQuery = true)
+    int removeTagAssociation(@Param("postId") Long postId, @Param("tagId") Long tagId);
+
+    // The tag links live in post_tag, so changing them bumps the postEntity version explicitly;
+    // otherwise an ETag taken before the change would still match afterwards
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post"))
+    @Query(value = "UPDATE post SET version = version + 1, updated_at = CURRENT_TIMESTAMP WHERE id = :id AND deleted = FALSE",
+            nativeQuery = true)
+    int incrementVersion(@Param("id") Long id);
+
+    // Tombstones the postEntity in one statement; children are left for PostPurgeService
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post"))
+    @Query(value = "UPDATE post SET deleted = TRUE, updated_at = CURRENT_TIMESTAMP, version = version + 1 "
+            + "WHERE id = :id AND deleted = FALSE", nativeQuery = true)
+    int softDeleteById(@Param("id") Long id);
+
+    @Query(value = "SELECT id FROM post WHERE deleted = TRUE ORDER BY id FETCH FIRST :limit ROWS ONLY",
+            nativeQuery = true)
+    List<Long> findSoftDeletedIds(@Param("limit") int limit);
+
+    // Bulk delete selectors: always the first chunk, since the previous chunk is gone by the next call.
+    // Soft-deleted rows are included so they are purged along with the rest.
+    @Query(value = "SELECT post_id FROM post_tag WHERE tag_id = :tagId ORDER BY post_id FETCH FIRST :limit ROWS ONLY",
+            nativeQuery = true)
+    List<Long> findIdsByTagId(@Param("tagId") Long tagId, @Param("limit") int limit);
+
+    @Query(value = "SELECT id FROM post WHERE created_at < :createdBefore ORDER BY created_at, id FETCH FIRST :limit ROWS ONLY",
+            nativeQuery = true)
+    List<Long> findIdsCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore, @Param("limit") int limit);
+
+    @Query(value = "SELECT p.id FROM post p JOIN post_tag pt ON pt.post_id = p.id "
+            + "WHERE pt.tag_id = :tagId AND p.created_at < :createdBefore ORDER BY p.id FETCH FIRST :limit ROWS ONLY",
+            nativeQuery = true)
+    List<Long> findIdsByTagIdCreatedBefore(@Param("tagId") Long tagId,
+                                           @Param("createdBefore") LocalDateTime createdBefore,
+                                           @Param("limit") int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post_tag"))
+    @Query(value = "DELETE FROM post_tag WHERE post_id IN (:postIds)", nativeQuery = true)
+    int deleteTagAssociationsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post"))
+    @Query(value = "DELETE FROM post WHERE id IN (:postIds)", nativeQuery = true)
+    int deleteAllByIds(@Param("postIds") Collection<Long> postIds);
+
+    // Single-statement title change; the tombstone is checked explicitly since the entity restriction
+    // is not part of bulk mutations
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PostEntity p SET p.title = :title, p.updatedAt = :updatedAt, p.version = p.version + 1 "
+            + "WHERE p.id = :id AND p.deleted = false AND (:expectedVersion IS NULL OR p.version = :expectedVersion)")
+    int updateTitle(@Param("id") Long id,
+                    @Param("title") String title,
+                    @Param("updatedAt") LocalDateTime updatedAt,
+                    @Param("expectedVersion") Long expectedVersion);
+
+    @Query("SELECT p.version FROM PostEntity p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+}
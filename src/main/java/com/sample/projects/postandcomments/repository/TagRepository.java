@@ -2,9 +2,31 @@ package com.sample.projects.postandcomments.repository;
 
 import com.sample.projects.postandcomments.entity.TagEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 @Repository
-public interface TagRepository extends JpaRepository<TagEntity, Long> {
-}
+public interface TagRepository extends JpaRepository<TagEntity, Long>, TagRepositoryCustom {
+
+    // name_lower is a generated, indexed column (see V2__add_performance_indexes.sql)
+    @Query(value = "SELECT * FROM tag WHERE name_lower = LOWER(:name)", nativeQuery = true)
+    Optional<TagEntity> findByNameIgnoreCase(@Param("name") String name);
 
+    // Single-statement rename; Hibernate evicts the tag and natural-id cache regions for bulk updates
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Tag t SET t.name = :name, t.updatedAt = :updatedAt, t.version = t.version + 1 "
+            + "WHERE t.id = :id AND (:expectedVersion IS NULL OR t.version = :expectedVersion)")
+    int updateName(@Param("id") Long id,
+                   @Param("name") String name,
+                   @Param("updatedAt") LocalDateTime updatedAt,
+                   @Param("expectedVersion") Long expectedVersion);
+
+    @Query("SELECT t.version FROM Tag t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+}
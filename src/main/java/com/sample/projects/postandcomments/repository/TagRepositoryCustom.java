@@ -0,0 +1,12 @@
+package com.sample.projects.postandcomments.repository;
+
+import com.sample.projects.postandcomments.entity.TagEntity;
+
+import java.util.Optional;
+
+public interface TagRepositoryCustom {
+
+    // Exact-name lookup through the natural-id cache; no SQL on a cache hit
+    Optional<TagEntity> findByNaturalId(String name);
+
+}
@@ -0,0 +1,23 @@
+package com.sample.projects.postandcomments.repository;
+
+import com.sample.projects.postandcomments.entity.TagEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class TagRepositoryCustomImpl implements TagRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<TagEntity> findByNaturalId(String name) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(TagEntity.class)
+                .loadOptional(name);
+    }
+}
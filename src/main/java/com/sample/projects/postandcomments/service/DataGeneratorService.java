@@ -0,0 +1,9 @@
+package com.sample.projects.postandcomments.service;
+
+import java.util.Map;
+
+public interface DataGeneratorService {
+
+    Map<String, Long> generate();
+
+}
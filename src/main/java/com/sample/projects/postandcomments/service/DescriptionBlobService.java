@@ -0,0 +1,25 @@
+package com.sample.projects.postandcomments.service;
+
+/**
+ * Content-addressed storage for long post descriptions, outside post_detail. Blobs are named by the
+ * SHA-256 of their UTF-8 bytes, so identical descriptions are stored once.
+ */
+public interface DescriptionBlobService {
+
+    /**
+     * @return true when the description is long enough to be stored as a blob
+     */
+    boolean accepts(String description);
+
+    DescriptionBlob put(String description);
+
+    String get(String hash, int length);
+
+    int deleteUnreferenced();
+
+    /**
+     * @param length size of the blob in bytes (UTF-8)
+     */
+    record DescriptionBlob(String hash, int length) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.sample.projects.postandcomments.service;
+
+import com.sample.projects.postandcomments.entity.OutboxEventEntity;
+
+import java.util.List;
+
+/**
+ * In-process consumer of the outbox change feed (cache invalidation, indexing, counters).
+ * Batches arrive in outbox id order. Delivery is at-least-once: a batch is redelivered to every
+ * subscriber when any of them throws, so implementations must be idempotent.
+ */
+public interface OutboxEventSubscriber {
+
+    void onEvents(List<OutboxEventEntity> events);
+
+}
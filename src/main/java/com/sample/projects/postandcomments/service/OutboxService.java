@@ -0,0 +1,18 @@
+package com.sample.projects.postandcomments.service;
+
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.AggregateType;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.ChangeType;
+
+import java.util.Collection;
+
+public interface OutboxService {
+
+    void append(AggregateType aggregateType, Long aggregateId, Long postId, ChangeType changeType);
+
+    void appendForPosts(Collection<Long> postIds, ChangeType changeType);
+
+    int relay();
+
+    int deletePublished();
+
+}
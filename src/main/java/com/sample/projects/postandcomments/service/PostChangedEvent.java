@@ -0,0 +1,17 @@
+package com.sample.projects.postandcomments.service;
+
+/**
+ * Published alongside each change record, so listeners on the writing node can react once the
+ * transaction commits instead of waiting for the outbox relay. A null postId stands for every post
+ * (tag changes, since tag names are embedded in many posts).
+ */
+public record PostChangedEvent(Long postId) {
+
+    public static PostChangedEvent allPosts() {
+        return new PostChangedEvent(null);
+    }
+
+    public boolean affectsAllPosts() {
+        return postId == null;
+    }
+}
@@ -1,5 +1,8 @@
 package com.sample.projects.postandcomments.service;
 
+import com.sample.projects.postandcomments.dto.request.PostCommentPatchRequest;
+import com.sample.projects.postandcomments.dto.request.PostCommentRequest;
+import com.sample.projects.postandcomments.dto.response.PostCommentResponse;
 import com.sample.projects.postandcomments.entity.PostCommentsEntity;
 
 import java.util.List;
@@ -8,6 +11,8 @@ import java.util.Optional;
 public interface PostCommentService {
     
     PostCommentsEntity save(PostCommentsEntity comment);
+
+    PostCommentResponse addComment(PostCommentRequest request);
     
     Optional<PostCommentsEntity> findById(Long id);
     
@@ -16,6 +21,8 @@ public interface PostCommentService {
     List<PostCommentsEntity> findByPostId(Long postId);
     
     PostCommentsEntity update(Long id, PostCommentsEntity comment);
+
+    long patch(Long id, PostCommentPatchRequest request, Long expectedVersion);
     
     void deleteById(Long id);
     
@@ -0,0 +1,16 @@
+package com.sample.projects.postandcomments.service;
+
+import com.sample.projects.postandcomments.dto.request.PostBulkDeleteRequest;
+import com.sample.projects.postandcomments.dto.response.PostBulkDeleteResponse;
+
+import java.util.Collection;
+
+public interface PostPurgeService {
+
+    int purgeSoftDeleted();
+
+    int purge(Collection<Long> postIds);
+
+    PostBulkDeleteResponse bulkDelete(PostBulkDeleteRequest request);
+
+}
@@ -0,0 +1,17 @@
+package com.sample.projects.postandcomments.service;
+
+import com.sample.projects.postandcomments.dto.response.PostResponse;
+
+import java.util.Optional;
+
+/**
+ * Serialized responses for hot posts, invalidated after local commits and from the outbox change feed.
+ */
+public interface PostResponseCache {
+
+    Optional<PostResponse> findById(Long id);
+
+    void invalidate(Long id);
+
+    void invalidateAll();
+}
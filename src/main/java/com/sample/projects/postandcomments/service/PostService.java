@@ -1,5 +1,6 @@
 package com.sample.projects.postandcomments.service;
 
+import com.sample.projects.postandcomments.dto.request.PostPatchRequest;
 import com.sample.projects.postandcomments.dto.request.PostRequest;
 import com.sample.projects.postandcomments.dto.response.PostResponse;
 
@@ -15,10 +16,16 @@ public interface PostService {
     List<PostResponse> findAll();
     
     PostResponse update(Long id, PostRequest request);
+
+    long patch(Long id, PostPatchRequest request, Long expectedVersion);
     
     void deleteById(Long id);
     
     boolean existsById(Long id);
 
+    void addTag(Long postId, Long tagId);
+
+    void removeTag(Long postId, Long tagId);
+
 }
 
@@ -0,0 +1,12 @@
+package com.sample.projects.postandcomments.service;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+public interface SnapshotService {
+
+    Map<String, Long> exportSnapshot(Path target);
+
+    Map<String, Long> importSnapshot(Path source);
+
+}
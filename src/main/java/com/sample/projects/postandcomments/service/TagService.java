@@ -1,5 +1,6 @@
 package com.sample.projects.postandcomments.service;
 
+import com.sample.projects.postandcomments.dto.request.TagRequest;
 import com.sample.projects.postandcomments.entity.TagEntity;
 
 import java.util.List;
@@ -16,6 +17,8 @@ public interface TagService {
     List<TagEntity> findAll();
     
     TagEntity update(Long id, TagEntity tagEntity);
+
+    long patch(Long id, TagRequest request, Long expectedVersion);
     
     void deleteById(Long id);
     
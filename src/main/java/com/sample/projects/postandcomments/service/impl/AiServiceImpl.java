@@ -2,21 +2,58 @@ package com.sample.projects.postandcomments.service.impl;
 
 import com.sample.projects.postandcomments.dto.response.AiResponse;
 import com.sample.projects.postandcomments.dto.response.PostResponse;
+import com.sample.projects.postandcomments.exception.ServiceUnavailableException;
 import com.sample.projects.postandcomments.service.AiService;
+import com.sample.projects.postandcomments.util.Constants;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
 @Service
 public class AiServiceImpl implements AiService {
 
     private final ChatClient chatClient;
+    // Bulkhead: on virtual threads the request pool no longer limits how many LLM calls are in flight
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
 
-    public AiServiceImpl(ChatClient chatClient) {
+    public AiServiceImpl(ChatClient chatClient,
+                         @Value("${app.ai.max-concurrent-calls:32}") int maxConcurrentCalls,
+                         @Value("${app.ai.acquire-timeout:PT2S}") Duration acquireTimeout) {
         this.chatClient = chatClient;
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.acquireTimeout = acquireTimeout;
     }
 
     @Override
     public AiResponse explainPost(PostResponse postResponse) {
+        acquirePermit();
+        try {
+            return explain(postResponse);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            if (permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        log.warn("No AI call slot within {}", acquireTimeout);
+        throw new ServiceUnavailableException(Constants.AI_SERVICE_BUSY);
+    }
+
+    private AiResponse explain(PostResponse postResponse) {
         String explanation =  chatClient
                 .prompt()                         // fluent API
                 .user("""
@@ -0,0 +1,242 @@
+package com.sample.projects.postandcomments.service.impl;
+
+import com.sample.projects.postandcomments.service.DataGeneratorService;
+import com.sample.projects.postandcomments.service.DescriptionBlobService;
+import com.sample.projects.postandcomments.util.TextCompression;
+import com.sample.projects.postandcomments.util.ZipfSampler;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Appends synthetic posts, details, tags and comments with realistic skew: comments per postEntity and
+ * tag popularity follow Zipf distributions, description lengths a log-normal capped at the column size.
+ * Posts are generated in independent batches (explicit ids, one transaction each) on a thread pool;
+ * each batch draws from its own seeded generator, so the content is reproducible for a given seed.
+ * Descriptions above the blob threshold go to the {@link DescriptionBlobService}, like regular saves.
+ */
+@Slf4j
+@Service
+@Profile("datagen")
+public class DataGeneratorServiceImpl implements DataGeneratorService {
+
+    private static final int MAX_DESCRIPTION_LENGTH = 5000;
+    private static final long ONE_YEAR_SECONDS = 365L * 24 * 60 * 60;
+    private static final String[] WORDS = {
+            "spring", "boot", "java", "post", "comment", "tag", "cache", "index", "query", "latency",
+            "throughput", "database", "service", "request", "response", "thread", "memory", "the", "a", "and",
+            "of", "to", "in", "is", "for", "with", "on", "that", "this", "performance", "scaling", "replica",
+            "transaction", "batch", "stream", "event", "version", "update", "read", "write"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final DescriptionBlobService descriptionBlobService;
+    private final long posts;
+    private final int tags;
+    private final int maxTagsPerPost;
+    private final ZipfSampler tagSampler;
+    private final ZipfSampler commentSampler;
+    private final double descriptionMu;
+    private final double descriptionSigma;
+    private final int batchSize;
+    private final int threads;
+    private final long seed;
+
+    @Autowired
+    public DataGeneratorServiceImpl(DataSource dataSource,
+                                    PlatformTransactionManager transactionManager,
+                                    EntityManagerFactory entityManagerFactory,
+                                    DescriptionBlobService descriptionBlobService,
+                                    @Value("${app.datagen.posts:1000000}") long posts,
+                                    @Value("${app.datagen.tags:10000}") int tags,
+                                    @Value("${app.datagen.max-tags-per-post:5}") int maxTagsPerPost,
+                                    @Value("${app.datagen.tag-skew:1.1}") double tagSkew,
+                                    @Value("${app.datagen.max-comments-per-post:2000}") int maxCommentsPerPost,
+                                    @Value("${app.datagen.comment-skew:1.8}") double commentSkew,
+                                    @Value("${app.datagen.description-median:600}") int descriptionMedian,
+                                    @Value("${app.datagen.description-sigma:0.9}") double descriptionSigma,
+                                    @Value("${app.datagen.batch-size:1000}") int batchSize,
+                                    @Value("${app.datagen.threads:0}") int threads,
+                                    @Value("${app.datagen.seed:42}") long seed) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.descriptionBlobService = descriptionBlobService;
+        this.posts = posts;
+        this.tags = tags;
+        this.maxTagsPerPost = Math.min(maxTagsPerPost, tags);
+        this.tagSampler = new ZipfSampler(tags, tagSkew);
+        // Rank 1 means no comments
+        this.commentSampler = new ZipfSampler(maxCommentsPerPost + 1, commentSkew);
+        this.descriptionMu = Math.log(descriptionMedian);
+        this.descriptionSigma = descriptionSigma;
+        this.batchSize = batchSize;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.seed = seed;
+    }
+
+    @Override
+    public Map<String, Long> generate() {
+        long start = System.nanoTime();
+        long postBase = maxId("post");
+        long tagBase = maxId("tag");
+        AtomicLong nextCommentId = new AtomicLong(maxId("post_comments") + 1);
+        LongAdder comments = new LongAdder();
+        LongAdder postTags = new LongAdder();
+
+        insertTags(tagBase);
+        log.info("Generating {} postEntities on {} thread(s) in batches of {}", posts, threads, batchSize);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> batches = new ArrayList<>();
+            for (long offset = 0; offset < posts; offset += batchSize) {
+                long firstPostId = postBase + offset + 1;
+                int count = (int) Math.min(batchSize, posts - offset);
+                SplittableRandom random = new SplittableRandom(seed + offset);
+                batches.add(executor.submit(() -> insertPostBatch(
+                        firstPostId, count, tagBase, random, nextCommentId, comments, postTags)));
+            }
+            for (Future<?> batch : batches) {
+                batch.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Data generation interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Data generation failed", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        restartIdentity("post");
+        restartIdentity("post_comments");
+        restartIdentity("tag");
+        // Rows were written behind Hibernate's back
+        entityManagerFactory.getCache().evictAll();
+
+        Map<String, Long> rowCounts = new LinkedHashMap<>();
+        rowCounts.put("tag", (long) tags);
+        rowCounts.put("post", posts);
+        rowCounts.put("post_detail", posts);
+        rowCounts.put("post_tag", postTags.sum());
+        rowCounts.put("post_comments", comments.sum());
+        log.info("Generated {} in {} ms", rowCounts, (System.nanoTime() - start) / 1_000_000);
+        return rowCounts;
+    }
+
+    private void insertTags(long tagBase) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(tags);
+        for (int rank = 1; rank <= tags; rank++) {
+            // Tag id order matches popularity rank, which makes skew easy to query for
+            rows.add(new Object[]{tagBase + rank, "gen-tag-" + (tagBase + rank), now, now});
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                "INSERT INTO tag (id, name, created_at, updated_at) VALUES (?, ?, ?, ?)", rows));
+    }
+
+    private void insertPostBatch(long firstPostId, int count, long tagBase, SplittableRandom random,
+                                 AtomicLong nextCommentId, LongAdder comments, LongAdder postTags) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> postRows = new ArrayList<>(count);
+        List<Object[]> detailRows = new ArrayList<>(count);
+        List<Object[]> postTagRows = new ArrayList<>();
+        int[] commentCounts = new int[count];
+        LocalDateTime[] createdAts = new LocalDateTime[count];
+        int totalComments = 0;
+
+        for (int i = 0; i < count; i++) {
+            long postId = firstPostId + i;
+            LocalDateTime createdAt = now.minusSeconds(random.nextLong(ONE_YEAR_SECONDS));
+            createdAts[i] = createdAt;
+            postRows.add(new Object[]{postId, "Generated post " + postId, createdAt, createdAt});
+            detailRows.add(detailRow(postId, description(random), createdAt));
+
+            Set<Long> tagIds = new LinkedHashSet<>();
+            int tagCount = random.nextInt(maxTagsPerPost + 1);
+            while (tagIds.size() < tagCount) {
+                tagIds.add(tagBase + tagSampler.sample(random));
+            }
+            tagIds.forEach(tagId -> postTagRows.add(new Object[]{postId, tagId}));
+
+            commentCounts[i] = commentSampler.sample(random) - 1;
+            totalComments += commentCounts[i];
+        }
+
+        long commentId = nextCommentId.getAndAdd(totalComments);
+        List<Object[]> commentRows = new ArrayList<>(totalComments);
+        for (int i = 0; i < count; i++) {
+            for (int c = 0; c < commentCounts[i]; c++) {
+                LocalDateTime commentedAt = createdAts[i].plusSeconds(random.nextLong(1, 7L * 24 * 60 * 60));
+                commentRows.add(new Object[]{commentId, "Generated comment " + commentId, firstPostId + i,
+                        commentedAt, commentedAt});
+                commentId++;
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate("INSERT INTO post (id, title, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                    postRows);
+            jdbcTemplate.batchUpdate("INSERT INTO post_detail (id, description, description_hash, description_length, "
+                    + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", detailRows);
+            jdbcTemplate.batchUpdate("INSERT INTO post_tag (post_id, tag_id) VALUES (?, ?)", postTagRows);
+            jdbcTemplate.batchUpdate("INSERT INTO post_comments (id, comment, post_id, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?)", commentRows);
+        });
+        comments.add(totalComments);
+        postTags.add(postTagRows.size());
+    }
+
+    private Object[] detailRow(long postId, String description, LocalDateTime createdAt) {
+        if (descriptionBlobService.accepts(description)) {
+            DescriptionBlobService.DescriptionBlob blob = descriptionBlobService.put(description);
+            return new Object[]{postId, null, blob.hash(), blob.length(), createdAt, createdAt};
+        }
+        return new Object[]{postId, TextCompression.encode(description), null, null, createdAt, createdAt};
+    }
+
+    // Log-normal length around the configured median, capped at the column size
+    private String description(SplittableRandom random) {
+        long length = Math.round(Math.exp(descriptionMu + descriptionSigma * random.nextGaussian()));
+        int target = (int) Math.max(1, Math.min(MAX_DESCRIPTION_LENGTH, length));
+        StringBuilder description = new StringBuilder(target + 16);
+        while (description.length() < target) {
+            description.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        description.setLength(target);
+        return description.toString();
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return max != null ? max : 0;
+    }
+
+    private void restartIdentity(String table) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (maxId(table) + 1));
+    }
+}
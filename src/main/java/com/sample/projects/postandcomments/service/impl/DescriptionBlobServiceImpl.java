@@ -0,0 +1,214 @@
+package com.sample.projects.postandcomments.service.impl;
+
+import com.sample.projects.postandcomments.config.ReadWriteRoutingDataSource;
+import com.sample.projects.postandcomments.repository.PostDetailRepository;
+import com.sample.projects.postandcomments.service.DescriptionBlobService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Keeps blobs under {@code <path>/ab/cd/abcd...}, written to a temp file and atomically renamed into place,
+ * and memory-maps them on read so the UTF-8 bytes are decoded straight from the page cache.
+ * A blob is written before the transaction referencing it commits; blobs that end up unreferenced
+ * (rolled back, description replaced, postEntity purged) are swept once older than the grace period.
+ * The sweep renames a blob aside before deleting it and puts it back if a deduplicating {@link #put} touched
+ * it in the meantime, so a row committed after the reference check never points at a deleted file.
+ */
+@Slf4j
+@Service
+public class DescriptionBlobServiceImpl implements DescriptionBlobService {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String TRASH_SUFFIX = ".trash";
+
+    private final PostDetailRepository postDetailRepository;
+    private final Path root;
+    private final int threshold;
+    private final Duration gracePeriod;
+
+    @Autowired
+    public DescriptionBlobServiceImpl(PostDetailRepository postDetailRepository,
+                                      @Value("${app.description-store.path:./data/descriptions}") String root,
+                                      @Value("${app.description-store.threshold:2000}") int threshold,
+                                      @Value("${app.description-store.grace-period:PT1H}") Duration gracePeriod) {
+        this.postDetailRepository = postDetailRepository;
+        this.root = Path.of(root);
+        this.threshold = threshold;
+        this.gracePeriod = gracePeriod;
+    }
+
+    @Override
+    public boolean accepts(String description) {
+        return description != null && description.length() >= threshold;
+    }
+
+    @Override
+    public DescriptionBlob put(String description) {
+        byte[] bytes = description.getBytes(StandardCharsets.UTF_8);
+        String hash = sha256(bytes);
+        Path path = pathOf(hash);
+        try {
+            if (!touch(path)) {
+                write(path, bytes);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to store description blob " + hash, ex);
+        }
+        return new DescriptionBlob(hash, bytes.length);
+    }
+
+    @Override
+    public String get(String hash, int length) {
+        try (FileChannel channel = FileChannel.open(pathOf(hash), StandardOpenOption.READ)) {
+            if (channel.size() != length) {
+                throw new IllegalStateException("Description blob " + hash + " has " + channel.size()
+                        + " bytes, expected " + length);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            return StandardCharsets.UTF_8.decode(buffer).toString();
+        } catch (NoSuchFileException ex) {
+            throw new IllegalStateException("Description blob " + hash + " is missing", ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read description blob " + hash, ex);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.description-store.cleanup-interval:PT6H}",
+            initialDelayString = "${app.description-store.cleanup-interval:PT6H}")
+    public int deleteUnreferenced() {
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        List<Path> candidates;
+        try (Stream<Path> files = Files.walk(root)) {
+            candidates = files.filter(Files::isRegularFile).toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to list description blobs", ex);
+        }
+
+        int deleted = 0;
+        for (Path path : candidates) {
+            try {
+                String name = path.getFileName().toString();
+                if (name.endsWith(TRASH_SUFFIX)) {
+                    // Left by an interrupted sweep; restore it and let the next sweep decide again
+                    restore(path, path.resolveSibling(name.substring(0, name.length() - TRASH_SUFFIX.length())));
+                    continue;
+                }
+                if (!Files.getLastModifiedTime(path).toInstant().isBefore(cutoff)) {
+                    continue;
+                }
+                // Leftover temp files are from failed writes
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(path);
+                    deleted++;
+                } else if (!isReferenced(name) && deleteIfUntouched(path, cutoff)) {
+                    deleted++;
+                }
+            } catch (IOException ex) {
+                log.warn("Failed to sweep description blob {}", path, ex);
+            }
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} unreferenced description blob(s)", deleted);
+        }
+        return deleted;
+    }
+
+    // Deduplicated put: refresh the timestamp so the sweep cannot remove it before our commit
+    private static boolean touch(Path path) throws IOException {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException ex) {
+            return false;
+        }
+    }
+
+    // A replica may not have the row that references the blob yet
+    private boolean isReferenced(String hash) {
+        return ReadWriteRoutingDataSource.onPrimary(() -> postDetailRepository.existsByDescriptionHash(hash));
+    }
+
+    // The rename is atomic with respect to put's touch: either the touch lands first and the moved file
+    // carries the new timestamp, or put no longer finds the blob and writes a fresh copy
+    private boolean deleteIfUntouched(Path path, Instant cutoff) throws IOException {
+        Path trash = path.resolveSibling(path.getFileName() + TRASH_SUFFIX);
+        try {
+            Files.move(path, trash, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException ex) {
+            return false;
+        }
+        if (!Files.getLastModifiedTime(trash).toInstant().isBefore(cutoff)) {
+            restore(trash, path);
+            return false;
+        }
+        Files.delete(trash);
+        return true;
+    }
+
+    private static void restore(Path trash, Path path) throws IOException {
+        if (Files.exists(path)) {
+            // Rewritten by put in the meantime with the same content
+            Files.delete(trash);
+        } else {
+            Files.move(trash, path, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    private void write(Path path, byte[] bytes) throws IOException {
+        Files.createDirectories(path.getParent());
+        Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), TEMP_SUFFIX);
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException ex) {
+            // Written concurrently with the same content
+            log.debug("Description blob {} already exists", path.getFileName());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path pathOf(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Invalid description blob hash: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
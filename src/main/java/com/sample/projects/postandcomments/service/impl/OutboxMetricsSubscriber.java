@@ -0,0 +1,33 @@
+package com.sample.projects.postandcomments.service.impl;
+
+import com.sample.projects.postandcomments.entity.OutboxEventEntity;
+import com.sample.projects.postandcomments.service.OutboxEventSubscriber;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Change counters per aggregate and change type, fed from the outbox instead of each service
+@Component
+public class OutboxMetricsSubscriber implements OutboxEventSubscriber {
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public OutboxMetricsSubscriber(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onEvents(List<OutboxEventEntity> events) {
+        for (OutboxEventEntity event : events) {
+            Counter.builder("app.changes")
+                    .tag("aggregate", event.getAggregateType().name())
+                    .tag("change", event.getChangeType().name())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
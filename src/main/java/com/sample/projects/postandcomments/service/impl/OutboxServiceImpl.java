@@ -0,0 +1,128 @@
+package com.sample.projects.postandcomments.service.impl;
+
+import com.sample.projects.postandcomments.entity.OutboxEventEntity;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.AggregateType;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.ChangeType;
+import com.sample.projects.postandcomments.repository.OutboxEventRepository;
+import com.sample.projects.postandcomments.service.OutboxEventSubscriber;
+import com.sample.projects.postandcomments.service.OutboxService;
+import com.sample.projects.postandcomments.service.PostChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Appends change records inside the caller's transaction and relays committed ones to
+ * {@link OutboxEventSubscriber}s. The relay marks a batch published only after every subscriber
+ * accepted it, so a crash or a failing subscriber leads to redelivery rather than loss.
+ * Each append also publishes a {@link PostChangedEvent} for after-commit listeners on this node.
+ */
+@Slf4j
+@Service
+public class OutboxServiceImpl implements OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectProvider<OutboxEventSubscriber> subscribers;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+
+    @Autowired
+    public OutboxServiceImpl(OutboxEventRepository outboxEventRepository,
+                             ObjectProvider<OutboxEventSubscriber> subscribers,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.outbox.batch-size:200}") int batchSize,
+                             @Value("${app.outbox.retention:P1D}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.subscribers = subscribers;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(AggregateType aggregateType, Long aggregateId, Long postId, ChangeType changeType) {
+        outboxEventRepository.save(OutboxEventEntity.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .postId(postId)
+                .changeType(changeType)
+                .createdAt(LocalDateTime.now())
+                .build());
+        if (aggregateType == AggregateType.TAG) {
+            eventPublisher.publishEvent(PostChangedEvent.allPosts());
+        } else if (postId != null) {
+            eventPublisher.publishEvent(new PostChangedEvent(postId));
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendForPosts(Collection<Long> postIds, ChangeType changeType) {
+        outboxEventRepository.appendForPosts(postIds, changeType.name());
+        postIds.forEach(postId -> eventPublisher.publishEvent(new PostChangedEvent(postId)));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}", initialDelayString = "${app.outbox.poll-interval:PT1S}")
+    public int relay() {
+        int published = 0;
+        List<OutboxEventEntity> batch;
+        do {
+            batch = transactionTemplate.execute(status -> outboxEventRepository.findUnpublished(batchSize));
+            if (batch == null || batch.isEmpty() || !dispatch(batch)) {
+                break;
+            }
+            List<Long> ids = batch.stream().map(OutboxEventEntity::getId).toList();
+            transactionTemplate.executeWithoutResult(
+                    status -> outboxEventRepository.markPublished(ids, LocalDateTime.now()));
+            published += batch.size();
+        } while (batch.size() == batchSize);
+        if (published > 0) {
+            log.debug("Relayed {} outbox event(s)", published);
+        }
+        return published;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.outbox.cleanup-interval:PT1H}", initialDelayString = "${app.outbox.cleanup-interval:PT1H}")
+    public int deletePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} published outbox event(s)", deleted);
+        }
+        return deleted != null ? deleted : 0;
+    }
+
+    private boolean dispatch(List<OutboxEventEntity> batch) {
+        for (OutboxEventSubscriber subscriber : subscribers.orderedStream().toList()) {
+            try {
+                subscriber.onEvents(batch);
+            } catch (RuntimeException ex) {
+                // Leave the batch unpublished; it is retried, in order, on the next poll
+                log.warn("Outbox subscriber {} failed on events {}..{}: {}", subscriber.getClass().getSimpleName(),
+                        batch.get(0).getId(), batch.get(batch.size() - 1).getId(), ex.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+}
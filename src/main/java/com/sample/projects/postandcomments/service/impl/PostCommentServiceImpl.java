@@ -1,73 +1,152 @@
 package com.sample.projects.postandcomments.service.impl;
 
+import com.sample.projects.postandcomments.dto.request.PostCommentPatchRequest;
+import com.sample.projects.postandcomments.dto.request.PostCommentRequest;
+import com.sample.projects.postandcomments.dto.response.PostCommentResponse;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.AggregateType;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.ChangeType;
 import com.sample.projects.postandcomments.entity.PostCommentsEntity;
+import com.sample.projects.postandcomments.exception.ConflictException;
+import com.sample.projects.postandcomments.exception.ResourceNotFoundException;
+import com.sample.projects.postandcomments.mapper.PostMapper;
 import com.sample.projects.postandcomments.repository.PostCommentRepository;
+import com.sample.projects.postandcomments.repository.PostRepository;
+import com.sample.projects.postandcomments.service.OutboxService;
 import com.sample.projects.postandcomments.service.PostCommentService;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @Transactional
 public class PostCommentServiceImpl implements PostCommentService {
 
+    private static final String POST_FOREIGN_KEY = "fk_post_comments_post";
+
     private final PostCommentRepository postCommentRepository;
+    private final PostRepository postRepository;
+    private final PostMapper postMapper;
+    private final OutboxService outboxService;
 
     @Autowired
-    public PostCommentServiceImpl(PostCommentRepository postCommentRepository) {
+    public PostCommentServiceImpl(PostCommentRepository postCommentRepository,
+                                  PostRepository postRepository,
+                                  PostMapper postMapper,
+                                  OutboxService outboxService) {
         this.postCommentRepository = postCommentRepository;
+        this.postRepository = postRepository;
+        this.postMapper = postMapper;
+        this.outboxService = outboxService;
     }
 
     @Override
     public PostCommentsEntity save(PostCommentsEntity comment) {
+        if (comment.getPostEntity() != null) {
+            requireLivePost(comment.getPostEntity().getId());
+        }
         if (comment.getCreatedAt() == null) {
             comment.setCreatedAt(LocalDateTime.now());
         }
         comment.setUpdatedAt(LocalDateTime.now());
-        return postCommentRepository.save(comment);
+        PostCommentsEntity savedComment = postCommentRepository.save(comment);
+        commentChanged(savedComment, ChangeType.CREATED);
+        return savedComment;
+    }
+
+    @Override
+    public PostCommentResponse addComment(PostCommentRequest request) {
+        log.debug("Appending comment to postEntity with id: {}", request.getPostId());
+        requireLivePost(request.getPostId());
+        // Attach by reference: beyond the existence probe the postEntity row and its comments
+        // collection are never loaded
+        PostCommentsEntity comment = PostCommentsEntity.builder()
+                .comment(request.getComment())
+                .postEntity(postRepository.getReferenceById(request.getPostId()))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        try {
+            PostCommentsEntity savedComment = postCommentRepository.save(comment);
+            commentChanged(savedComment, ChangeType.CREATED);
+            log.info("Comment {} appended to postEntity {}", savedComment.getId(), request.getPostId());
+            return postMapper.toPostCommentResponse(savedComment);
+        } catch (DataIntegrityViolationException ex) {
+            if (!violatesPostForeignKey(ex)) {
+                throw ex;
+            }
+            // The postEntity row was hard-deleted between the probe and the insert
+            log.warn("PostEntity not found for comment with id: {}", request.getPostId());
+            throw new ResourceNotFoundException("PostEntity", request.getPostId());
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<PostCommentsEntity> findById(Long id) {
-        return postCommentRepository.findById(id);
+        return postCommentRepository.findLiveById(id);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PostCommentsEntity> findAll() {
-        return postCommentRepository.findAll();
+        return postCommentRepository.findAllLive();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PostCommentsEntity> findByPostId(Long postId) {
-        return postCommentRepository.findAll().stream()
-                .filter(comment -> comment.getPostEntity() != null && comment.getPostEntity().getId().equals(postId))
-                .toList();
+        return postCommentRepository.findByLivePostIdOrderByIdAsc(postId);
     }
 
     @Override
     public PostCommentsEntity update(Long id, PostCommentsEntity comment) {
-        return postCommentRepository.findById(id)
+        return postCommentRepository.findLiveById(id)
                 .map(existingComment -> {
                     existingComment.setComment(comment.getComment());
                     existingComment.setUpdatedAt(LocalDateTime.now());
-                    return postCommentRepository.save(existingComment);
+                    PostCommentsEntity updatedComment = postCommentRepository.save(existingComment);
+                    commentChanged(updatedComment, ChangeType.UPDATED);
+                    return updatedComment;
                 })
-                .orElseThrow(() -> new RuntimeException("PostCommentsEntity not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("PostCommentsEntity", id));
     }
 
     @Override
-    public void deleteById(Long id) {
-        if (!postCommentRepository.existsById(id)) {
-            throw new RuntimeException("PostCommentsEntity not found with id: " + id);
+    public long patch(Long id, PostCommentPatchRequest request, Long expectedVersion) {
+        log.debug("Patching comment with id: {}, expected version: {}", id, expectedVersion);
+        if (postCommentRepository.updateComment(id, request.getComment(), LocalDateTime.now(), expectedVersion) == 0) {
+            if (expectedVersion != null && postCommentRepository.existsLiveById(id)) {
+                log.warn("PostCommentsEntity {} changed since version {}", id, expectedVersion);
+                throw new ConflictException("PostCommentsEntity", id);
+            }
+            throw new ResourceNotFoundException("PostCommentsEntity", id);
+        }
+        outboxService.append(AggregateType.COMMENT, id, postCommentRepository.findPostIdById(id).orElse(null),
+                ChangeType.UPDATED);
+        if (expectedVersion != null) {
+            return expectedVersion + 1;
         }
-        postCommentRepository.deleteById(id);
+        // Unconditional update: the new version has to be read back for the ETag
+        return postCommentRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("PostCommentsEntity", id));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        // Loaded once for both the delete and the owning postEntity id of the change record
+        PostCommentsEntity comment = postCommentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("PostCommentsEntity", id));
+        postCommentRepository.delete(comment);
+        commentChanged(comment, ChangeType.DELETED);
     }
 
     @Override
@@ -76,5 +155,33 @@ public class PostCommentServiceImpl implements PostCommentService {
         return postCommentRepository.existsById(id);
     }
 
-}
+    // A tombstoned postEntity still satisfies the foreign key, so it has to be checked explicitly
+    private void requireLivePost(Long postId) {
+        if (postId == null || !postRepository.existsById(postId)) {
+            log.warn("PostEntity not found for comment with id: {}", postId);
+            throw new ResourceNotFoundException("PostEntity", postId);
+        }
+    }
+
+    // Only the post_id foreign key means a missing postEntity; any other violation is a genuine failure.
+    // Hibernate's H2 extractor clips the first character of the name, so the driver message is checked too.
+    static boolean violatesPostForeignKey(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && namesPostForeignKey(violation.getConstraintName())) {
+                return true;
+            }
+        }
+        return namesPostForeignKey(ex.getMostSpecificCause().getMessage());
+    }
 
+    private static boolean namesPostForeignKey(String text) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(POST_FOREIGN_KEY);
+    }
+
+    private void commentChanged(PostCommentsEntity comment, ChangeType changeType) {
+        // getId() on the lazy postEntity proxy does not initialize it
+        Long postId = comment.getPostEntity() != null ? comment.getPostEntity().getId() : null;
+        outboxService.append(AggregateType.COMMENT, comment.getId(), postId, changeType);
+    }
+
+}
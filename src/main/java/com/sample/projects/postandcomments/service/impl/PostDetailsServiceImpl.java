@@ -2,11 +2,16 @@ package com.sample.projects.postandcomments.service.impl;
 
 import com.sample.projects.postandcomments.dto.request.PostDetailRequest;
 import com.sample.projects.postandcomments.dto.response.PostDetailResponse;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.AggregateType;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.ChangeType;
 import com.sample.projects.postandcomments.entity.PostDetailEntity;
 import com.sample.projects.postandcomments.exception.ResourceNotFoundException;
 import com.sample.projects.postandcomments.exception.ValidationException;
 import com.sample.projects.postandcomments.mapper.PostDetailMapper;
 import com.sample.projects.postandcomments.repository.PostDetailRepository;
+import com.sample.projects.postandcomments.service.DescriptionBlobService;
+import com.sample.projects.postandcomments.service.DescriptionBlobService.DescriptionBlob;
+import com.sample.projects.postandcomments.service.OutboxService;
 import com.sample.projects.postandcomments.service.PostDetailsService;
 import com.sample.projects.postandcomments.util.Constants;
 import lombok.extern.slf4j.Slf4j;
@@ -25,22 +30,31 @@ public class PostDetailsServiceImpl implements PostDetailsService {
 
     private final PostDetailRepository postDetailRepository;
     private final PostDetailMapper postDetailMapper;
+    private final OutboxService outboxService;
+    private final DescriptionBlobService descriptionBlobService;
 
     @Autowired
-    public PostDetailsServiceImpl(PostDetailRepository postDetailRepository, PostDetailMapper postDetailMapper) {
+    public PostDetailsServiceImpl(PostDetailRepository postDetailRepository,
+                                  PostDetailMapper postDetailMapper,
+                                  OutboxService outboxService,
+                                  DescriptionBlobService descriptionBlobService) {
         this.postDetailRepository = postDetailRepository;
         this.postDetailMapper = postDetailMapper;
+        this.outboxService = outboxService;
+        this.descriptionBlobService = descriptionBlobService;
     }
 
     @Override
     public PostDetailResponse save(PostDetailRequest postDetailRequest) {
         log.debug("Saving New Post Detail: {}", postDetailRequest.toString());
         PostDetailEntity postDetailEntity = postDetailMapper.toPostDetailEntity(postDetailRequest);
+        setDescription(postDetailEntity, postDetailRequest.getDescription());
 
         // Set Timestamps
         postDetailEntity.setCreatedAt(LocalDateTime.now());
 
         PostDetailEntity postDetailEntitySaved = postDetailRepository.save(postDetailEntity);
+        postDetailChanged(postDetailEntitySaved.getId(), ChangeType.CREATED);
         log.info("Post Detail Entity Saved Successfully With Id: {}", postDetailEntitySaved.getId());
 
         return postDetailMapper.toPostDetailResponse(postDetailEntitySaved);
@@ -54,7 +68,7 @@ public class PostDetailsServiceImpl implements PostDetailsService {
             log.warn("Attempt To Find Post Detail Entity With Null Id");
             throw new ValidationException(Constants.POST_DETAIL_ID_CANNOT_BE_NULL);
         }
-        Optional<PostDetailResponse> result = postDetailRepository.findById(id)
+        Optional<PostDetailResponse> result = postDetailRepository.findByLivePostId(id)
                 .map(postDetailMapper::toPostDetailResponse);
         if(result.isEmpty()) {
             log.warn("Attempt To Find Post Detail Entity With Null Id");
@@ -66,7 +80,7 @@ public class PostDetailsServiceImpl implements PostDetailsService {
     @Transactional(readOnly = true)
     public List<PostDetailResponse> findAll() {
         log.debug("Finding All Post Details Entities");
-        List<PostDetailEntity> allPostDetailEntities = postDetailRepository.findAll();
+        List<PostDetailEntity> allPostDetailEntities = postDetailRepository.findAllLive();
         log.info("Found {} Post Detail Entities", allPostDetailEntities.size());
         return postDetailMapper.toPostDetailResponses(allPostDetailEntities);
     }
@@ -75,7 +89,7 @@ public class PostDetailsServiceImpl implements PostDetailsService {
     @Transactional(readOnly = true)
     public Optional<PostDetailResponse> findByPostId(Long postId) {
         log.info("Retrieving Post Detail Entity By Post Id: {}", postId);
-        Optional<PostDetailResponse> postDetailResponse = postDetailRepository.findByPostEntity_Id(postId)
+        Optional<PostDetailResponse> postDetailResponse = postDetailRepository.findByLivePostId(postId)
                 .map(postDetailMapper::toPostDetailResponse);
         if(postDetailResponse.isEmpty()) {
             log.debug("Attempt To Find Post Detail Entity With Null Post Id: {}", postId);
@@ -91,7 +105,7 @@ public class PostDetailsServiceImpl implements PostDetailsService {
             throw new ValidationException(Constants.POST_DETAIL_ID_CANNOT_BE_NULL);
         }
 
-        PostDetailEntity existingPostDetailEntity = postDetailRepository.findById(id)
+        PostDetailEntity existingPostDetailEntity = postDetailRepository.findByLivePostId(id)
                 .orElseThrow(() -> {
                     log.warn("Attempt To Update Post Detail Entity With Null Id");
                     return new ResourceNotFoundException("Post Detail Entity", id);
@@ -99,9 +113,10 @@ public class PostDetailsServiceImpl implements PostDetailsService {
 
         // Update description
         log.debug("Updating Post Detail Entity Description From: {} to {}", existingPostDetailEntity.getDescription(), postDetailRequest.getDescription());
-        existingPostDetailEntity.setDescription(postDetailRequest.getDescription());
+        setDescription(existingPostDetailEntity, postDetailRequest.getDescription());
         existingPostDetailEntity.setUpdatedAt(LocalDateTime.now());
         PostDetailEntity postDetailEntityUpdated = postDetailRepository.save(existingPostDetailEntity);
+        postDetailChanged(id, ChangeType.UPDATED);
         log.info("Post Detail Entity Updated Successfully With Id: {}", postDetailEntityUpdated.getId());
         return postDetailMapper.toPostDetailResponse(postDetailEntityUpdated);
     }
@@ -118,9 +133,28 @@ public class PostDetailsServiceImpl implements PostDetailsService {
             throw new ResourceNotFoundException("Post Detail Entity" + id);
         }
         postDetailRepository.deleteById(id);
+        postDetailChanged(id, ChangeType.DELETED);
         log.info("Post Detail Entity Deleted Successfully With Id: {}", id);
     }
 
+    // Long descriptions go to the blob store; the row keeps only their hash and length
+    private void setDescription(PostDetailEntity postDetailEntity, String description) {
+        if (descriptionBlobService.accepts(description)) {
+            DescriptionBlob blob = descriptionBlobService.put(description);
+            postDetailEntity.setDescription(null);
+            postDetailEntity.setDescriptionHash(blob.hash());
+            postDetailEntity.setDescriptionLength(blob.length());
+        } else {
+            postDetailEntity.setDescription(description);
+            postDetailEntity.setDescriptionHash(null);
+            postDetailEntity.setDescriptionLength(null);
+        }
+    }
+
+    // post_detail shares its primary key with post
+    private void postDetailChanged(Long id, ChangeType changeType) {
+        outboxService.append(AggregateType.POST_DETAIL, id, id, changeType);
+    }
 
 }
 
@@ -0,0 +1,171 @@
+package com.sample.projects.postandcomments.service.impl;
+
+import com.sample.projects.postandcomments.dto.request.PostBulkDeleteRequest;
+import com.sample.projects.postandcomments.dto.response.PostBulkDeleteResponse;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.ChangeType;
+import com.sample.projects.postandcomments.exception.ValidationException;
+import com.sample.projects.postandcomments.repository.PostCommentRepository;
+import com.sample.projects.postandcomments.repository.PostDetailRepository;
+import com.sample.projects.postandcomments.repository.PostRepository;
+import com.sample.projects.postandcomments.service.OutboxService;
+import com.sample.projects.postandcomments.service.PostPurgeService;
+import com.sample.projects.postandcomments.util.Constants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Physically removes posts with set-based deletes instead of entity-by-entity cascades.
+ * Each chunk runs in its own short transaction so a postEntity with thousands of comments
+ * never holds locks for long.
+ */
+@Slf4j
+@Service
+public class PostPurgeServiceImpl implements PostPurgeService {
+
+    private final PostRepository postRepository;
+    private final PostCommentRepository postCommentRepository;
+    private final PostDetailRepository postDetailRepository;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final int postChunkSize;
+    private final int commentChunkSize;
+
+    @Autowired
+    public PostPurgeServiceImpl(PostRepository postRepository,
+                                PostCommentRepository postCommentRepository,
+                                PostDetailRepository postDetailRepository,
+                                OutboxService outboxService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.purge.post-chunk-size:500}") int postChunkSize,
+                                @Value("${app.purge.comment-chunk-size:5000}") int commentChunkSize) {
+        this.postRepository = postRepository;
+        this.postCommentRepository = postCommentRepository;
+        this.postDetailRepository = postDetailRepository;
+        this.outboxService = outboxService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postChunkSize = postChunkSize;
+        this.commentChunkSize = commentChunkSize;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.purge.interval:PT30S}", initialDelayString = "${app.purge.interval:PT30S}")
+    public int purgeSoftDeleted() {
+        int purged = 0;
+        List<Long> postIds = findSoftDeletedChunk();
+        while (!postIds.isEmpty()) {
+            purged += purge(postIds);
+            postIds = findSoftDeletedChunk();
+        }
+        if (purged > 0) {
+            log.info("Purged {} soft-deleted postEntity(s)", purged);
+        }
+        return purged;
+    }
+
+    @Override
+    public int purge(Collection<Long> postIds) {
+        // Soft-deleted posts already produced their DELETED change record
+        return purge(postIds, false);
+    }
+
+    private int purge(Collection<Long> postIds, boolean recordChanges) {
+        if (postIds == null || postIds.isEmpty()) {
+            return 0;
+        }
+        log.debug("Purging {} postEntity(s)", postIds.size());
+
+        long comments = 0;
+        int deleted;
+        do {
+            deleted = inTransaction(() -> postCommentRepository.deleteChunkByPostIds(postIds, commentChunkSize));
+            comments += deleted;
+        } while (deleted == commentChunkSize);
+
+        int posts = inTransaction(() -> {
+            // Picks up comments appended while the chunks above were running
+            postCommentRepository.deleteChunkByPostIds(postIds, commentChunkSize);
+            postRepository.deleteTagAssociationsByPostIds(postIds);
+            postDetailRepository.deleteAllByPostIds(postIds);
+            if (recordChanges) {
+                outboxService.appendForPosts(postIds, ChangeType.DELETED);
+            }
+            return postRepository.deleteAllByIds(postIds);
+        });
+        log.debug("Purged {} postEntity(s) with {} comment(s)", posts, comments);
+        return posts;
+    }
+
+    @Override
+    public PostBulkDeleteResponse bulkDelete(PostBulkDeleteRequest request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean hasFilter = request.getTagId() != null || request.getCreatedBefore() != null;
+        if (!hasIds && !hasFilter) {
+            throw new ValidationException(Constants.BULK_DELETE_CRITERIA_REQUIRED);
+        }
+        if (hasIds && hasFilter) {
+            throw new ValidationException(Constants.BULK_DELETE_IDS_NOT_COMBINABLE);
+        }
+
+        long deleted = 0;
+        if (hasIds) {
+            List<Long> postIds = new ArrayList<>(request.getIds());
+            for (int from = 0; from < postIds.size(); from += postChunkSize) {
+                deleted += purge(postIds.subList(from, Math.min(from + postChunkSize, postIds.size())), true);
+            }
+        } else {
+            Supplier<List<Long>> nextChunk = filterChunk(request);
+            List<Long> postIds = nextChunk.get();
+            while (!postIds.isEmpty()) {
+                int purged = purge(postIds, true);
+                deleted += purged;
+                if (purged == 0) {
+                    // Selected rows vanished underneath us; stop instead of spinning on the same chunk
+                    break;
+                }
+                postIds = nextChunk.get();
+            }
+        }
+        log.info("Bulk deleted {} postEntity(s) matching ids={}, tagId={}, createdBefore={}",
+                deleted, hasIds ? request.getIds().size() : 0, request.getTagId(), request.getCreatedBefore());
+        return PostBulkDeleteResponse.builder().deletedCount(deleted).build();
+    }
+
+    private Supplier<List<Long>> filterChunk(PostBulkDeleteRequest request) {
+        Long tagId = request.getTagId();
+        LocalDateTime createdBefore = request.getCreatedBefore();
+        Supplier<List<Long>> query;
+        if (tagId != null && createdBefore != null) {
+            query = () -> postRepository.findIdsByTagIdCreatedBefore(tagId, createdBefore, postChunkSize);
+        } else if (tagId != null) {
+            query = () -> postRepository.findIdsByTagId(tagId, postChunkSize);
+        } else {
+            query = () -> postRepository.findIdsCreatedBefore(createdBefore, postChunkSize);
+        }
+        return () -> {
+            List<Long> postIds = transactionTemplate.execute(status -> query.get());
+            return postIds != null ? postIds : List.of();
+        };
+    }
+
+    private List<Long> findSoftDeletedChunk() {
+        List<Long> postIds = transactionTemplate.execute(status -> postRepository.findSoftDeletedIds(postChunkSize));
+        return postIds != null ? postIds : List.of();
+    }
+
+    private int inTransaction(IntSupplier work) {
+        Integer result = transactionTemplate.execute(status -> work.getAsInt());
+        return result != null ? result : 0;
+    }
+}
@@ -0,0 +1,137 @@
+package com.sample.projects.postandcomments.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sample.projects.postandcomments.config.ReadWriteRoutingDataSource;
+import com.sample.projects.postandcomments.dto.response.PostResponse;
+import com.sample.projects.postandcomments.dto.response.PreSerializedPostResponse;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.AggregateType;
+import com.sample.projects.postandcomments.service.OutboxEventSubscriber;
+import com.sample.projects.postandcomments.service.PostChangedEvent;
+import com.sample.projects.postandcomments.service.PostResponseCache;
+import com.sample.projects.postandcomments.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps {@link PreSerializedPostResponse}s for hot post ids (Caffeine's frequency-based admission decides
+ * which ids stay), bounded by the total size of their JSON since a post with thousands of comments weighs
+ * as much as many small ones. Writes on this node drop the entry as soon as they commit; changes made elsewhere arrive
+ * through the outbox relay, so there a cached post can lag a write by up to the relay poll interval. Tag
+ * changes clear everything since tag names are embedded in many posts. The TTL bounds staleness if a change
+ * record is ever missed. Loads read from the primary, so a lagging replica cannot be cached for a whole TTL.
+ * They run outside the cache's per-key compute: that holds a map bin lock, which would pin a virtual thread's
+ * carrier for the whole query. Every invalidation bumps a stamp instead, and a load that saw the stamp move
+ * withdraws its result, so an invalidation racing a load still wins. Concurrent misses on one id may each load.
+ */
+@Slf4j
+@Service
+public class PostResponseCacheImpl implements PostResponseCache, OutboxEventSubscriber {
+
+    private final PostService postService;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, PreSerializedPostResponse> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Autowired
+    public PostResponseCacheImpl(PostService postService,
+                                 ObjectMapper objectMapper,
+                                 ObjectProvider<MeterRegistry> meterRegistry,
+                                 @Value("${app.post-cache.max-weight:64MB}") DataSize maxWeight,
+                                 @Value("${app.post-cache.ttl:PT5M}") Duration ttl) {
+        this.postService = postService;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight.toBytes())
+                .weigher((Long id, PreSerializedPostResponse response) -> response.jsonLength())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "post-responses"));
+    }
+
+    @Override
+    public Optional<PostResponse> findById(Long id) {
+        PreSerializedPostResponse cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long stamp = invalidations.get();
+        PreSerializedPostResponse loaded = load(id);
+        if (loaded != null) {
+            cache.put(id, loaded);
+            if (invalidations.get() != stamp) {
+                // Invalidated while loading: the result may predate the write, so do not keep it
+                cache.asMap().remove(id, loaded);
+            }
+        }
+        return Optional.ofNullable(loaded);
+    }
+
+    @Override
+    public void invalidate(Long id) {
+        invalidations.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    @Override
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.affectsAllPosts()) {
+            invalidateAll();
+        } else {
+            invalidate(event.postId());
+        }
+    }
+
+    @Override
+    public void onEvents(List<OutboxEventEntity> events) {
+        for (OutboxEventEntity event : events) {
+            if (event.getAggregateType() == AggregateType.TAG) {
+                log.debug("Tag change, clearing all cached post responses");
+                invalidateAll();
+                return;
+            }
+            if (event.getPostId() != null) {
+                invalidate(event.getPostId());
+            }
+        }
+    }
+
+    // null (not cached) when the post does not exist
+    private PreSerializedPostResponse load(Long id) {
+        return ReadWriteRoutingDataSource.onPrimary(() -> postService.findById(id))
+                .map(this::serialize)
+                .orElse(null);
+    }
+
+    private PreSerializedPostResponse serialize(PostResponse postResponse) {
+        try {
+            return new PreSerializedPostResponse(postResponse, objectMapper.writeValueAsString(postResponse));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException("Failed to serialize postEntity " + postResponse.getId(), ex);
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package com.sample.projects.postandcomments.service.impl;
 
+import com.sample.projects.postandcomments.dto.request.PostPatchRequest;
 import com.sample.projects.postandcomments.dto.request.PostRequest;
 import com.sample.projects.postandcomments.dto.response.PostResponse;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.AggregateType;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.ChangeType;
 import com.sample.projects.postandcomments.entity.PostEntity;
 import com.sample.projects.postandcomments.entity.TagEntity;
+import com.sample.projects.postandcomments.exception.ConflictException;
 import com.sample.projects.postandcomments.exception.ResourceNotFoundException;
 import com.sample.projects.postandcomments.exception.ValidationException;
 import com.sample.projects.postandcomments.mapper.PostMapper;
 import com.sample.projects.postandcomments.util.Constants;
 import com.sample.projects.postandcomments.repository.PostRepository;
+import com.sample.projects.postandcomments.service.OutboxService;
 import com.sample.projects.postandcomments.service.PostService;
 import com.sample.projects.postandcomments.service.TagService;
 import lombok.extern.slf4j.Slf4j;
@@ -32,14 +37,17 @@ public class PostServiceImpl implements PostService {
     private final PostRepository postRepository;
     private final PostMapper postMapper;
     private final TagService tagService;
+    private final OutboxService outboxService;
 
     @Autowired
     public PostServiceImpl(PostRepository postRepository,
                            PostMapper postMapper,
-                           TagService tagService) {
+                           TagService tagService,
+                           OutboxService outboxService) {
         this.postRepository = postRepository;
         this.postMapper = postMapper;
         this.tagService = tagService;
+        this.outboxService = outboxService;
     }
 
     @Override
@@ -65,6 +73,7 @@ public class PostServiceImpl implements PostService {
         }
         
         PostEntity savedPostEntity = postRepository.save(postEntity);
+        postChanged(savedPostEntity.getId(), ChangeType.CREATED);
         log.info("PostEntity saved successfully with id: {}", savedPostEntity.getId());
         return postMapper.toPostResponse(savedPostEntity);
     }
@@ -130,10 +139,37 @@ public class PostServiceImpl implements PostService {
         }
         
         PostEntity updatedPostEntity = postRepository.save(existingPostEntity);
+        postChanged(id, ChangeType.UPDATED);
         log.info("PostEntity updated successfully with id: {}", id);
         return postMapper.toPostResponse(updatedPostEntity);
     }
 
+    @Override
+    public long patch(Long id, PostPatchRequest request, Long expectedVersion) {
+        log.debug("Patching postEntity with id: {}, expected version: {}", id, expectedVersion);
+        if (id == null) {
+            log.warn("Attempted to patch postEntity with null id");
+            throw new ValidationException(Constants.POST_ID_CANNOT_BE_NULL);
+        }
+        // One UPDATE, no load or dirty-check snapshot; the lookup below only runs on the failure path
+        if (postRepository.updateTitle(id, request.getTitle(), LocalDateTime.now(), expectedVersion) == 0) {
+            if (expectedVersion != null && postRepository.existsById(id)) {
+                log.warn("PostEntity {} changed since version {}", id, expectedVersion);
+                throw new ConflictException("PostEntity", id);
+            }
+            log.warn("PostEntity not found for patch with id: {}", id);
+            throw new ResourceNotFoundException("PostEntity", id);
+        }
+        postChanged(id, ChangeType.UPDATED);
+        log.info("PostEntity patched successfully with id: {}", id);
+        if (expectedVersion != null) {
+            return expectedVersion + 1;
+        }
+        // Unconditional update: the new version has to be read back for the ETag
+        return postRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("PostEntity", id));
+    }
+
     @Override
     public void deleteById(Long id) {
         log.debug("Deleting postEntity with id: {}", id);
@@ -141,11 +177,12 @@ public class PostServiceImpl implements PostService {
             log.warn("Attempted to delete postEntity with null id");
             throw new ValidationException(Constants.POST_ID_CANNOT_BE_NULL);
         }
-        if (!postRepository.existsById(id)) {
+        // Tombstone only; comments, detail and tag links are removed later by PostPurgeService
+        if (postRepository.softDeleteById(id) == 0) {
             log.warn("PostEntity not found for deletion with id: {}", id);
             throw new ResourceNotFoundException("PostEntity", id);
         }
-        postRepository.deleteById(id);
+        postChanged(id, ChangeType.DELETED);
         log.info("PostEntity deleted successfully with id: {}", id);
     }
 
@@ -161,6 +198,52 @@ public class PostServiceImpl implements PostService {
         log.debug("PostEntity existence check for id {}: {}", id, exists);
         return exists;
     }
+
+    @Override
+    public void addTag(Long postId, Long tagId) {
+        log.debug("Adding tag {} to postEntity {}", tagId, postId);
+        validateTagAssociation(postId, tagId);
+        postRepository.addTagAssociation(postId, tagId);
+        postRepository.incrementVersion(postId);
+        postChanged(postId, ChangeType.UPDATED);
+        log.info("Tag {} added to postEntity {}", tagId, postId);
+    }
+
+    @Override
+    public void removeTag(Long postId, Long tagId) {
+        log.debug("Removing tag {} from postEntity {}", tagId, postId);
+        validateTagAssociation(postId, tagId);
+        int removed = postRepository.removeTagAssociation(postId, tagId);
+        if (removed > 0) {
+            postRepository.incrementVersion(postId);
+        }
+        postChanged(postId, ChangeType.UPDATED);
+        log.info("Tag {} removed from postEntity {} ({} row(s))", tagId, postId, removed);
+    }
+
+    private void postChanged(Long postId, ChangeType changeType) {
+        outboxService.append(AggregateType.POST, postId, postId, changeType);
+    }
+
+    // Existence checks are primary-key lookups; the association itself is written without loading either side
+    private void validateTagAssociation(Long postId, Long tagId) {
+        if (postId == null) {
+            log.warn("Attempted to change tags of postEntity with null id");
+            throw new ValidationException(Constants.POST_ID_CANNOT_BE_NULL);
+        }
+        if (tagId == null) {
+            log.warn("Attempted to change tags of postEntity {} with null tag id", postId);
+            throw new ValidationException(Constants.TAG_ID_CANNOT_BE_NULL);
+        }
+        if (!postRepository.existsById(postId)) {
+            log.warn("PostEntity not found for tag change with id: {}", postId);
+            throw new ResourceNotFoundException("PostEntity", postId);
+        }
+        if (!tagService.existsById(tagId)) {
+            log.warn("TagEntity not found for tag change with id: {}", tagId);
+            throw new ResourceNotFoundException("TagEntity", tagId);
+        }
+    }
     
     private void validateTagIds(Set<Long> tagIds) {
         if (tagIds != null && !tagIds.isEmpty()) {
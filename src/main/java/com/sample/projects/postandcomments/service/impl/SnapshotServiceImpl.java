@@ -0,0 +1,289 @@
+package com.sample.projects.postandcomments.service.impl;
+
+import com.sample.projects.postandcomments.service.DescriptionBlobService;
+import com.sample.projects.postandcomments.service.SnapshotService;
+import com.sample.projects.postandcomments.util.TextCompression;
+import com.sample.projects.postandcomments.util.snapshot.SnapshotColumn;
+import com.sample.projects.postandcomments.util.snapshot.SnapshotReader;
+import com.sample.projects.postandcomments.util.snapshot.SnapshotWriter;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Exports the post, detail, comment and tag tables to the binary snapshot format and restores them
+ * with batched JDBC inserts, one transaction per row group. Generated columns are skipped on export
+ * and recomputed by the database on import; identity columns are restarted after the last id.
+ * Descriptions kept in the blob store are inlined into the snapshot and stored as blobs again on import
+ * according to the local threshold, so a snapshot is self-contained.
+ */
+@Slf4j
+@Service
+public class SnapshotServiceImpl implements SnapshotService {
+
+    // Parents before children, so foreign keys hold throughout the import
+    static final List<String> TABLES = List.of("post", "post_detail", "post_comments", "tag", "post_tag");
+    private static final String DETAIL_TABLE = "post_detail";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final DescriptionBlobService descriptionBlobService;
+    private final int rowGroupSize;
+
+    @Autowired
+    public SnapshotServiceImpl(DataSource dataSource,
+                               PlatformTransactionManager transactionManager,
+                               EntityManagerFactory entityManagerFactory,
+                               DescriptionBlobService descriptionBlobService,
+                               @Value("${app.snapshot.row-group-size:10000}") int rowGroupSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(rowGroupSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        // Read committed would let a post created or purged between table passes leave dangling child rows
+        this.readOnlyTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+        this.entityManagerFactory = entityManagerFactory;
+        this.descriptionBlobService = descriptionBlobService;
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    @Override
+    public Map<String, Long> exportSnapshot(Path target) {
+        long start = System.nanoTime();
+        Map<String, Long> rowCounts = new LinkedHashMap<>();
+        Path partial = target.resolveSibling(target.getFileName() + ".partial");
+        try (SnapshotWriter writer = new SnapshotWriter(
+                new BufferedOutputStream(Files.newOutputStream(partial), 1 << 16), rowGroupSize)) {
+            // One serializable read-only transaction, so all tables are exported from the same point in time
+            readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                for (String table : TABLES) {
+                    rowCounts.put(table, exportTable(writer, table));
+                }
+            });
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write snapshot " + target, ex);
+        }
+        try {
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to move snapshot into place at " + target, ex);
+        }
+        log.info("Exported snapshot {} in {} ms: {}", target, (System.nanoTime() - start) / 1_000_000, rowCounts);
+        return rowCounts;
+    }
+
+    @Override
+    public Map<String, Long> importSnapshot(Path source) {
+        long start = System.nanoTime();
+        Map<String, Long> rowCounts = new LinkedHashMap<>();
+        try (SnapshotReader reader = new SnapshotReader(
+                new BufferedInputStream(Files.newInputStream(source), 1 << 16))) {
+            clearTables();
+            SnapshotReader.Table table;
+            while ((table = reader.nextTable()) != null) {
+                rowCounts.put(table.name(), importTable(reader, table));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read snapshot " + source, ex);
+        }
+        for (String table : rowCounts.keySet()) {
+            restartIdentity(table);
+        }
+        // Rows were written behind Hibernate's back
+        entityManagerFactory.getCache().evictAll();
+        log.info("Imported snapshot {} in {} ms: {}", source, (System.nanoTime() - start) / 1_000_000, rowCounts);
+        return rowCounts;
+    }
+
+    private long exportTable(SnapshotWriter writer, String table) {
+        List<SnapshotColumn> columns = readColumns(table);
+        String sql = "SELECT " + columnList(columns) + " FROM " + table + " ORDER BY 1";
+        DescriptionColumns descriptionColumns = DETAIL_TABLE.equals(table) ? DescriptionColumns.of(columns) : null;
+        long[] rowCount = {0};
+        try {
+            writer.beginTable(table, columns);
+            jdbcTemplate.query(sql, (RowCallbackHandler) resultSet -> {
+                Object[] row = new Object[columns.size()];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = readValue(resultSet, i + 1, columns.get(i).type());
+                }
+                if (descriptionColumns != null) {
+                    inlineBlob(descriptionColumns, row);
+                }
+                try {
+                    writer.writeRow(row);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                rowCount[0]++;
+            });
+            writer.endTable();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        log.debug("Exported {} row(s) from {}", rowCount[0], table);
+        return rowCount[0];
+    }
+
+    private long importTable(SnapshotReader reader, SnapshotReader.Table table) throws IOException {
+        if (!TABLES.contains(table.name())) {
+            throw new IllegalStateException("Unexpected table in snapshot: " + table.name());
+        }
+        List<SnapshotColumn> columns = table.columns();
+        String sql = "INSERT INTO " + table.name() + " (" + columnList(columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        int[] argTypes = columns.stream().mapToInt(column -> column.type().sqlType()).toArray();
+        DescriptionColumns descriptionColumns = DETAIL_TABLE.equals(table.name()) ? DescriptionColumns.of(columns) : null;
+        long rowCount = 0;
+        List<Object[]> rows;
+        while ((rows = reader.nextRowGroup()) != null) {
+            if (descriptionColumns != null) {
+                // Blobs are written before the row group commits, as for regular saves
+                rows.forEach(row -> externalizeBlob(descriptionColumns, row));
+            }
+            List<Object[]> batch = rows;
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, batch, argTypes));
+            rowCount += rows.size();
+        }
+        log.debug("Imported {} row(s) into {}", rowCount, table.name());
+        return rowCount;
+    }
+
+    // The blob store is local to the host, so the description travels inside the snapshot
+    private void inlineBlob(DescriptionColumns columns, Object[] row) {
+        Object hash = row[columns.hash()];
+        if (hash == null) {
+            return;
+        }
+        String description = descriptionBlobService.get((String) hash, (Integer) row[columns.length()]);
+        row[columns.description()] = TextCompression.encode(description);
+        row[columns.hash()] = null;
+        row[columns.length()] = null;
+    }
+
+    private void externalizeBlob(DescriptionColumns columns, Object[] row) {
+        String description = TextCompression.decode((byte[]) row[columns.description()]);
+        if (!descriptionBlobService.accepts(description)) {
+            return;
+        }
+        DescriptionBlobService.DescriptionBlob blob = descriptionBlobService.put(description);
+        row[columns.description()] = null;
+        row[columns.hash()] = blob.hash();
+        row[columns.length()] = blob.length();
+    }
+
+    private void clearTables() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<String> reversed = new ArrayList<>(TABLES);
+            Collections.reverse(reversed);
+            reversed.forEach(table -> jdbcTemplate.update("DELETE FROM " + table));
+        });
+    }
+
+    private void restartIdentity(String table) {
+        List<String> identityColumns = jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            List<String> result = new ArrayList<>();
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet resultSet = metaData.getColumns(connection.getCatalog(), connection.getSchema(),
+                    identifier(metaData, table), null)) {
+                while (resultSet.next()) {
+                    if ("YES".equals(resultSet.getString("IS_AUTOINCREMENT"))) {
+                        result.add(resultSet.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return result;
+        });
+        for (String column : identityColumns) {
+            Long next = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + column + "), 0) + 1 FROM " + table, Long.class);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + next);
+        }
+    }
+
+    private List<SnapshotColumn> readColumns(String table) {
+        List<SnapshotColumn> columns = jdbcTemplate.execute((ConnectionCallback<List<SnapshotColumn>>) connection -> {
+            List<SnapshotColumn> result = new ArrayList<>();
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet resultSet = metaData.getColumns(connection.getCatalog(), connection.getSchema(),
+                    identifier(metaData, table), null)) {
+                while (resultSet.next()) {
+                    // e.g. tag.name_lower; the database derives it again on insert
+                    if ("YES".equals(resultSet.getString("IS_GENERATEDCOLUMN"))) {
+                        continue;
+                    }
+                    result.add(new SnapshotColumn(resultSet.getString("COLUMN_NAME").toLowerCase(Locale.ROOT),
+                            SnapshotColumn.Type.fromSqlType(resultSet.getInt("DATA_TYPE"), resultSet.getString("TYPE_NAME"))));
+                }
+            }
+            return result;
+        });
+        if (columns == null || columns.isEmpty()) {
+            throw new IllegalStateException("Table not found for snapshot: " + table);
+        }
+        return columns;
+    }
+
+    private record DescriptionColumns(int description, int hash, int length) {
+
+        // null for snapshots taken before descriptions could be stored as blobs; their rows are kept inline
+        static DescriptionColumns of(List<SnapshotColumn> columns) {
+            List<String> names = columns.stream().map(SnapshotColumn::name).toList();
+            int description = names.indexOf("description");
+            int hash = names.indexOf("description_hash");
+            int length = names.indexOf("description_length");
+            return description < 0 || hash < 0 || length < 0 ? null : new DescriptionColumns(description, hash, length);
+        }
+    }
+
+    private static String identifier(DatabaseMetaData metaData, String name) throws SQLException {
+        return metaData.storesUpperCaseIdentifiers() ? name.toUpperCase(Locale.ROOT) : name;
+    }
+
+    private static String columnList(List<SnapshotColumn> columns) {
+        return columns.stream().map(SnapshotColumn::name).collect(Collectors.joining(", "));
+    }
+
+    private static Object readValue(ResultSet resultSet, int index, SnapshotColumn.Type type) throws SQLException {
+        Object value = switch (type) {
+            case BIGINT -> resultSet.getLong(index);
+            case INTEGER -> resultSet.getInt(index);
+            case BOOLEAN -> resultSet.getBoolean(index);
+            case VARCHAR -> resultSet.getString(index);
+            case TIMESTAMP -> resultSet.getObject(index, LocalDateTime.class);
+            case VARBINARY -> resultSet.getBytes(index);
+        };
+        return resultSet.wasNull() ? null : value;
+    }
+}
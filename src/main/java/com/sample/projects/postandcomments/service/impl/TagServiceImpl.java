@@ -1,12 +1,21 @@
 package com.sample.projects.postandcomments.service.impl;
 
+import com.sample.projects.postandcomments.dto.request.TagRequest;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.AggregateType;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.ChangeType;
 import com.sample.projects.postandcomments.entity.TagEntity;
+import com.sample.projects.postandcomments.exception.ConflictException;
+import com.sample.projects.postandcomments.exception.ResourceNotFoundException;
 import com.sample.projects.postandcomments.repository.TagRepository;
+import com.sample.projects.postandcomments.service.OutboxService;
 import com.sample.projects.postandcomments.service.TagService;
+import com.sample.projects.postandcomments.util.Constants;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,24 +24,26 @@ import java.util.Optional;
 public class TagServiceImpl implements TagService {
 
     private final TagRepository tagRepository;
+    private final OutboxService outboxService;
 
     @Autowired
-    public TagServiceImpl(TagRepository tagRepository) {
+    public TagServiceImpl(TagRepository tagRepository, OutboxService outboxService) {
         this.tagRepository = tagRepository;
+        this.outboxService = outboxService;
     }
 
     @Override
     public TagEntity save(TagEntity tagEntity) {
         // Check if tagEntity with same name already exists
-        Optional<TagEntity> existingTag = tagRepository.findAll().stream()
-                .filter(t -> t.getName().equalsIgnoreCase(tagEntity.getName()))
-                .findFirst();
+        Optional<TagEntity> existingTag = tagRepository.findByNameIgnoreCase(tagEntity.getName());
         
         if (existingTag.isPresent()) {
             return existingTag.get();
         }
         
-        return tagRepository.save(tagEntity);
+        TagEntity savedTag = tagRepository.save(tagEntity);
+        tagChanged(savedTag.getId(), ChangeType.CREATED);
+        return savedTag;
     }
 
     @Override
@@ -44,9 +55,9 @@ public class TagServiceImpl implements TagService {
     @Override
     @Transactional(readOnly = true)
     public Optional<TagEntity> findByName(String name) {
-        return tagRepository.findAll().stream()
-                .filter(tag -> tag.getName().equalsIgnoreCase(name))
-                .findFirst();
+        // Exact names resolve from the natural-id cache; other casings fall back to the indexed lookup
+        return tagRepository.findByNaturalId(name)
+                .or(() -> tagRepository.findByNameIgnoreCase(name));
     }
 
     @Override
@@ -60,17 +71,44 @@ public class TagServiceImpl implements TagService {
         return tagRepository.findById(id)
                 .map(existingTag -> {
                     existingTag.setName(tagEntity.getName());
-                    return tagRepository.save(existingTag);
+                    TagEntity updatedTag = tagRepository.save(existingTag);
+                    tagChanged(id, ChangeType.UPDATED);
+                    return updatedTag;
                 })
-                .orElseThrow(() -> new RuntimeException("TagEntity not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("TagEntity", id));
+    }
+
+    @Override
+    public long patch(Long id, TagRequest request, Long expectedVersion) {
+        int updated;
+        try {
+            updated = tagRepository.updateName(id, request.getName(), LocalDateTime.now(), expectedVersion);
+        } catch (DataIntegrityViolationException ex) {
+            // uk on tag.name
+            throw new ConflictException(Constants.TAG_NAME_ALREADY_EXISTS);
+        }
+        if (updated == 0) {
+            if (expectedVersion != null && tagRepository.existsById(id)) {
+                throw new ConflictException("TagEntity", id);
+            }
+            throw new ResourceNotFoundException("TagEntity", id);
+        }
+        tagChanged(id, ChangeType.UPDATED);
+        if (expectedVersion != null) {
+            return expectedVersion + 1;
+        }
+        // Unconditional update: the new version has to be read back for the ETag
+        return tagRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("TagEntity", id));
     }
 
     @Override
     public void deleteById(Long id) {
         if (!tagRepository.existsById(id)) {
-            throw new RuntimeException("TagEntity not found with id: " + id);
+            throw new ResourceNotFoundException("TagEntity", id);
         }
         tagRepository.deleteById(id);
+        tagChanged(id, ChangeType.DELETED);
     }
 
     @Override
@@ -79,5 +117,8 @@ public class TagServiceImpl implements TagService {
         return tagRepository.existsById(id);
     }
 
-}
+    private void tagChanged(Long tagId, ChangeType changeType) {
+        outboxService.append(AggregateType.TAG, tagId, null, changeType);
+    }
 
+}
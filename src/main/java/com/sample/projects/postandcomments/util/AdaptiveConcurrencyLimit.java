@@ -0,0 +1,86 @@
+package com.sample.projects.postandcomments.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows observed latency (AIMD): requests are timed and folded into a short and a
+ * long moving average. While the short average stays within {@code tolerance} times the long one and the
+ * limit is actually in use, the limit grows by about one per limit's worth of completions; once queueing
+ * pushes the short average above it, the limit is cut by 10%, at most once per short-average latency so a
+ * single slow spell is not punished repeatedly.
+ * <p>
+ * Admission is one CAS on the in-flight count. The averages and the limit are plain volatiles updated without
+ * locking: a racing completion can overwrite another's update, which only drops a sample.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double SHORT_WEIGHT = 0.1;
+    private static final double LONG_WEIGHT = 0.01;
+    private static final double BACKOFF = 0.9;
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    // Nanoseconds; 0 until the first sample
+    private volatile double shortLatency;
+    private volatile double longLatency;
+    private volatile long lastDecreaseNanos = NEVER;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        if (minLimit < 1 || minLimit > maxLimit || tolerance <= 1) {
+            throw new IllegalArgumentException("need 1 <= minLimit <= maxLimit and tolerance > 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * @param share fraction of the limit this request may fill, lower for requests to shed first
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long startNanos, long endNanos) {
+        int busy = inFlight.getAndDecrement();
+        long latency = endNanos - startNanos;
+        double shortAverage = shortLatency == 0 ? latency : shortLatency + SHORT_WEIGHT * (latency - shortLatency);
+        double longAverage = longLatency == 0 ? latency : longLatency + LONG_WEIGHT * (latency - longLatency);
+        shortLatency = shortAverage;
+        longLatency = longAverage;
+
+        double current = limit;
+        if (shortAverage > longAverage * tolerance) {
+            long lastDecrease = lastDecreaseNanos;
+            if (lastDecrease == NEVER || endNanos - lastDecrease > (long) shortAverage) {
+                lastDecreaseNanos = endNanos;
+                limit = Math.max(minLimit, current * BACKOFF);
+            }
+        } else if (busy * 2 >= current) {
+            // Only probe upwards while at least half the limit is in use
+            limit = Math.min(maxLimit, current + 1 / current);
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
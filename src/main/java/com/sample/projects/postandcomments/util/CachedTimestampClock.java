@@ -0,0 +1,37 @@
+package com.sample.projects.postandcomments.util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats the current time for response envelopes, at most once per millisecond. The last result sits in a
+ * volatile immutable holder; a caller that sees a stale millisecond formats and publishes a new one.
+ * Racing callers format the same value, so there is nothing to lock.
+ */
+public class CachedTimestampClock {
+
+    public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+
+    private final Clock clock;
+    private volatile Formatted current = new Formatted(Long.MIN_VALUE, null);
+
+    public CachedTimestampClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    public String now() {
+        long millis = clock.millis();
+        Formatted formatted = current;
+        if (formatted.millis() != millis) {
+            formatted = new Formatted(millis,
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), clock.getZone()).format(FORMATTER));
+            current = formatted;
+        }
+        return formatted.text();
+    }
+
+    private record Formatted(long millis, String text) {
+    }
+}
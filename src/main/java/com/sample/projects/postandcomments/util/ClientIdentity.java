@@ -0,0 +1,67 @@
+package com.sample.projects.postandcomments.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+public class ClientIdentity {
+
+    public static final String HEADER_NAME = "X-Client-Id";
+    public static final String MDC_KEY = "clientId";
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final String PRINCIPAL_PREFIX = "user:";
+
+    private ClientIdentity() {
+        // Utility class - prevent instantiation
+    }
+
+    // Explicit client id first, then the originating address behind a proxy, then the peer address
+    public static String resolve(HttpServletRequest request) {
+        String clientId = request.getHeader(HEADER_NAME);
+        if (clientId != null && !clientId.isBlank()) {
+            return clientId;
+        }
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            int comma = forwardedFor.indexOf(',');
+            return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+        }
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * Identity a client cannot pick for itself, for enforcement such as rate limits: the authenticated
+     * principal, otherwise the connecting peer. Behind trusted proxies the X-Forwarded-For hops they appended
+     * are walked from the right, and the first address that is not a trusted proxy is the client.
+     */
+    public static String resolveTrusted(HttpServletRequest request, Set<String> trustedProxies) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return PRINCIPAL_PREFIX + principal.getName();
+        }
+        String address = request.getRemoteAddr();
+        if (!trustedProxies.contains(address)) {
+            return address;
+        }
+        List<String> hops = new ArrayList<>();
+        for (String header : Collections.list(request.getHeaders(FORWARDED_FOR_HEADER))) {
+            for (String hop : header.split(",")) {
+                if (!hop.isBlank()) {
+                    hops.add(hop.trim());
+                }
+            }
+        }
+        for (int i = hops.size() - 1; i >= 0; i--) {
+            address = hops.get(i);
+            if (!trustedProxies.contains(address)) {
+                return address;
+            }
+        }
+        // Only proxies in the chain: the leftmost one is as close to the client as we can tell
+        return address;
+    }
+}
@@ -8,10 +8,23 @@ public class Constants {
 
     // POST CONSTANTS
     public static final String VALIDATION_FAILED = "Validation failed";
+    public static final String INVALID_IF_MATCH = "If-Match must carry a version ETag";
     public static final String POST_ID_CANNOT_BE_NULL = "PostEntity id cannot be null";
     public static final String POST_RETRIEVED_SUCCESSFULLY = "PostEntity retrieved successfully";
     public static final String POST_CREATED_SUCCESSFULLY = "PostEntity created successfully";
     public static final String POST_UPDATED_SUCCESSFULLY = "PostEntity updated successfully";
+    public static final String POST_TAG_ADDED_SUCCESSFULLY = "Tag added to postEntity successfully";
+    public static final String POST_TAG_REMOVED_SUCCESSFULLY = "Tag removed from postEntity successfully";
+    public static final String POSTS_BULK_DELETED_SUCCESSFULLY = "PostEntities deleted successfully";
+    public static final String BULK_DELETE_CRITERIA_REQUIRED = "Either ids, tagId or createdBefore is required";
+    public static final String BULK_DELETE_IDS_NOT_COMBINABLE = "ids cannot be combined with tagId or createdBefore";
+    public static final String AI_SERVICE_BUSY = "AI service is busy, try again later";
+    public static final String RATE_LIMIT_EXCEEDED = "Too many requests, slow down and retry later";
+    public static final String SERVER_OVERLOADED = "Server is overloaded, retry later";
+
+    // TAG CONSTANTS
+    public static final String TAG_ID_CANNOT_BE_NULL = "TagEntity id cannot be null";
+    public static final String TAG_NAME_ALREADY_EXISTS = "TagEntity name already exists";
 
     // POST DETAIL CONSTANTS
     public static final String POST_DETAIL_RETRIEVED_SUCCESSFULLY = "Post Detail Retrieved Successfully!";
@@ -0,0 +1,45 @@
+package com.sample.projects.postandcomments.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered ids in the UUID version 7 layout: 48 bits of epoch millis and a 12 bit counter,
+ * then a per-process node and 32 bits from {@link ThreadLocalRandom}. The millis/counter pair advances
+ * with one CAS, so ids are strictly increasing within the process; when the counter runs out in a
+ * millisecond it carries into the timestamp. Unlike {@link UUID#randomUUID()} nothing blocks on SecureRandom.
+ */
+public class IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_4122 = 0x8000_0000_0000_0000L;
+    private static final long NODE = (new SecureRandom().nextLong() & 0x3FFF_FFFFL) << 32;
+
+    // epoch millis << COUNTER_BITS | counter
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private IdGenerator() {
+        // Utility class - prevent instantiation
+    }
+
+    public static UUID nextUuid() {
+        long floor = System.currentTimeMillis() << COUNTER_BITS;
+        long next;
+        long last;
+        do {
+            last = LAST.get();
+            next = Math.max(floor, last + 1);
+        } while (!LAST.compareAndSet(last, next));
+
+        long high = (next >>> COUNTER_BITS) << 16 | VERSION_7 | (next & ((1L << COUNTER_BITS) - 1));
+        long low = VARIANT_RFC_4122 | NODE | (ThreadLocalRandom.current().nextInt() & 0xFFFF_FFFFL);
+        return new UUID(high, low);
+    }
+
+    public static String nextId() {
+        return nextUuid().toString();
+    }
+}
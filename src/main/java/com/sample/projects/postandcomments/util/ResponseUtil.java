@@ -3,17 +3,19 @@ package com.sample.projects.postandcomments.util;
 import com.sample.projects.postandcomments.dto.CommonResponse;
 import com.sample.projects.postandcomments.dto.response.AiResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.MDC;
 import org.springframework.http.HttpStatus;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Clock;
 import java.util.List;
-import java.util.UUID;
 
 public class ResponseUtil {
 
+    // Set by CorrelationIdFilter for the duration of a request
+    public static final String CORRELATION_ID_MDC_KEY = "correlationId";
+
     private static final String API_VERSION = "1.0.0";
-    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+    private static final CachedTimestampClock TIMESTAMP_CLOCK = new CachedTimestampClock(Clock.systemDefaultZone());
 
     private ResponseUtil() {
         // Utility class - prevent instantiation
@@ -65,15 +67,17 @@ public class ResponseUtil {
     }
 
     public static String getCurrentTimestamp() {
-        return LocalDateTime.now().format(DATE_TIME_FORMATTER);
+        return TIMESTAMP_CLOCK.now();
     }
 
     public static String generateTraceId() {
-        return UUID.randomUUID().toString();
+        return IdGenerator.nextId();
     }
 
+    // Reuses the request's correlation id, so the response body matches the header and the logs
     public static String generateCorrelationId() {
-        return UUID.randomUUID().toString();
+        String correlationId = MDC.get(CORRELATION_ID_MDC_KEY);
+        return correlationId != null ? correlationId : IdGenerator.nextId();
     }
 }
 
@@ -0,0 +1,109 @@
+package com.sample.projects.postandcomments.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Binary column format for long text: a marker byte, then either the plain UTF-8 bytes or, for text of at
+ * least {@link #MIN_COMPRESSED_BYTES}, the decoded length and a raw Deflate stream primed with a shared
+ * dictionary. Text is only stored compressed when that is actually smaller.
+ */
+public class TextCompression {
+
+    public static final byte PLAIN = 0;
+    public static final byte DEFLATE = 1;
+    public static final int MIN_COMPRESSED_BYTES = 256;
+
+    private static final int DEFLATE_HEADER_BYTES = 1 + Integer.BYTES;
+
+    // Frequent words go last: Deflate prefers the closest match, and short back-references are cheaper
+    private static final byte[] DICTIONARY = ("performance database request response service application "
+            + "comment comments posts description example update version cache query latency thread "
+            + "would could should about after before because there their which while where when what "
+            + "with from have this that will your more than into also just like only some been were "
+            + "the and for are but not you all can was one our out").getBytes(StandardCharsets.UTF_8);
+
+    private TextCompression() {
+        // Utility class - prevent instantiation
+    }
+
+    public static byte[] encode(String text) {
+        if (text == null) {
+            return null;
+        }
+        byte[] plain = text.getBytes(StandardCharsets.UTF_8);
+        if (plain.length >= MIN_COMPRESSED_BYTES) {
+            byte[] compressed = deflate(plain);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+        byte[] encoded = new byte[plain.length + 1];
+        encoded[0] = PLAIN;
+        System.arraycopy(plain, 0, encoded, 1, plain.length);
+        return encoded;
+    }
+
+    public static String decode(byte[] encoded) {
+        if (encoded == null) {
+            return null;
+        }
+        if (encoded.length == 0) {
+            throw new IllegalArgumentException("Missing text encoding marker");
+        }
+        return switch (encoded[0]) {
+            case PLAIN -> new String(encoded, 1, encoded.length - 1, StandardCharsets.UTF_8);
+            case DEFLATE -> inflate(encoded);
+            default -> throw new IllegalArgumentException("Unknown text encoding marker " + encoded[0]);
+        };
+    }
+
+    public static boolean isCompressed(byte[] encoded) {
+        return encoded != null && encoded.length > 0 && encoded[0] == DEFLATE;
+    }
+
+    // null when the compressed form would not be smaller than the plain one
+    private static byte[] deflate(byte[] plain) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setDictionary(DICTIONARY);
+            deflater.setInput(plain);
+            deflater.finish();
+            byte[] buffer = new byte[plain.length];
+            int length = deflater.deflate(buffer, DEFLATE_HEADER_BYTES, buffer.length - DEFLATE_HEADER_BYTES);
+            if (!deflater.finished()) {
+                return null;
+            }
+            ByteBuffer.wrap(buffer).put(DEFLATE).putInt(plain.length);
+            byte[] encoded = new byte[DEFLATE_HEADER_BYTES + length];
+            System.arraycopy(buffer, 0, encoded, 0, encoded.length);
+            return encoded;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String inflate(byte[] encoded) {
+        if (encoded.length < DEFLATE_HEADER_BYTES) {
+            throw new IllegalArgumentException("Truncated compressed text");
+        }
+        byte[] plain = new byte[ByteBuffer.wrap(encoded, 1, Integer.BYTES).getInt()];
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setDictionary(DICTIONARY);
+            inflater.setInput(encoded, DEFLATE_HEADER_BYTES, encoded.length - DEFLATE_HEADER_BYTES);
+            int length = inflater.inflate(plain);
+            if (length != plain.length) {
+                throw new IllegalArgumentException("Truncated compressed text");
+            }
+            return new String(plain, StandardCharsets.UTF_8);
+        } catch (DataFormatException ex) {
+            throw new IllegalArgumentException("Corrupt compressed text", ex);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.sample.projects.postandcomments.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as a single timestamp (the generic cell rate algorithm): the state is the time at which
+ * the bucket would be full again if no further tokens were taken. Taking a token pushes that time forward
+ * by one refill interval; it is refused while that would put the bucket more than its capacity into debt.
+ * One CAS per acquire and no refill task, so idle buckets cost nothing.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(int capacity, double tokensPerSecond, long nowNanos) {
+        if (capacity < 1 || tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity must be at least 1 and tokensPerSecond positive");
+        }
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / tokensPerSecond));
+        this.capacityNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @return 0 when a token was taken, otherwise the nanoseconds until one will be available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            // Compare by difference: System.nanoTime may wrap
+            long next = (current - nowNanos > 0 ? current : nowNanos) + intervalNanos;
+            long wait = next - nowNanos - capacityNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Gives back a token taken by {@link #tryAcquire} for a request that was rejected afterwards.
+     */
+    public void refund() {
+        // A fullAt in the past means a full bucket, the same as the current time
+        fullAt.addAndGet(-intervalNanos);
+    }
+}
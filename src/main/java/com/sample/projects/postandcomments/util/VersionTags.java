@@ -0,0 +1,38 @@
+package com.sample.projects.postandcomments.util;
+
+import com.sample.projects.postandcomments.exception.ValidationException;
+
+/**
+ * Maps entity versions to strong ETags ({@code "3"}) and back from If-Match headers.
+ */
+public class VersionTags {
+
+    private VersionTags() {
+        // Utility class - prevent instantiation
+    }
+
+    public static String toETag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * @return the expected version, or null when the header is absent or {@code *} (unconditional update)
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            throw new ValidationException(Constants.INVALID_IF_MATCH + ": " + ifMatch);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.sample.projects.postandcomments.util.snapshot;
+
+import java.sql.Types;
+
+/**
+ * Column header of a snapshot table. Only the SQL types used by the schema are supported.
+ */
+public record SnapshotColumn(String name, Type type) {
+
+    public enum Type {
+        BIGINT(1, Types.BIGINT),
+        INTEGER(2, Types.INTEGER),
+        BOOLEAN(3, Types.BOOLEAN),
+        VARCHAR(4, Types.VARCHAR),
+        TIMESTAMP(5, Types.TIMESTAMP),
+        VARBINARY(6, Types.VARBINARY);
+
+        private final int code;
+        private final int sqlType;
+
+        Type(int code, int sqlType) {
+            this.code = code;
+            this.sqlType = sqlType;
+        }
+
+        public int code() {
+            return code;
+        }
+
+        public int sqlType() {
+            return sqlType;
+        }
+
+        public static Type fromCode(int code) {
+            for (Type type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown snapshot column type code: " + code);
+        }
+
+        public static Type fromSqlType(int sqlType, String typeName) {
+            return switch (sqlType) {
+                case Types.BIGINT -> BIGINT;
+                case Types.INTEGER, Types.SMALLINT, Types.TINYINT -> INTEGER;
+                case Types.BOOLEAN, Types.BIT -> BOOLEAN;
+                case Types.VARCHAR, Types.CHAR, Types.LONGVARCHAR, Types.CLOB -> VARCHAR;
+                case Types.TIMESTAMP -> TIMESTAMP;
+                case Types.VARBINARY, Types.BINARY, Types.LONGVARBINARY, Types.BLOB -> VARBINARY;
+                default -> throw new IllegalArgumentException("Unsupported column type for snapshot: " + typeName);
+            };
+        }
+    }
+}
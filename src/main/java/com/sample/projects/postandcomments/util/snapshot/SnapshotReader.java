@@ -0,0 +1,113 @@
+package com.sample.projects.postandcomments.util.snapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Streams a file written by {@link SnapshotWriter} one row group at a time, so restoring
+ * millions of rows never holds more than a single group in memory.
+ */
+public class SnapshotReader implements Closeable {
+
+    private final DataInputStream in;
+    private final Inflater inflater = new Inflater();
+    private List<SnapshotColumn> columns;
+
+    public SnapshotReader(InputStream inputStream) throws IOException {
+        this.in = new DataInputStream(inputStream);
+        if (in.readInt() != SnapshotWriter.MAGIC) {
+            throw new IOException("Not a snapshot file");
+        }
+        byte version = in.readByte();
+        if (version != SnapshotWriter.VERSION) {
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+    }
+
+    /**
+     * @return the next table header, or null at the end of the snapshot
+     */
+    public Table nextTable() throws IOException {
+        if (columns != null) {
+            throw new IllegalStateException("Row groups of the current table not fully read");
+        }
+        byte marker = in.readByte();
+        if (marker == SnapshotWriter.END) {
+            return null;
+        }
+        if (marker != SnapshotWriter.TABLE) {
+            throw new IOException("Corrupt snapshot: unexpected marker " + marker);
+        }
+        String name = in.readUTF();
+        int columnCount = in.readUnsignedShort();
+        List<SnapshotColumn> tableColumns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            tableColumns.add(new SnapshotColumn(in.readUTF(), SnapshotColumn.Type.fromCode(in.readByte())));
+        }
+        columns = tableColumns;
+        return new Table(name, List.copyOf(tableColumns));
+    }
+
+    /**
+     * @return the rows of the next group of the current table, or null once the table is exhausted
+     */
+    public List<Object[]> nextRowGroup() throws IOException {
+        int rowCount = in.readInt();
+        if (rowCount == 0) {
+            columns = null;
+            return null;
+        }
+        int length = in.readInt();
+        byte[] compressed = in.readNBytes(length);
+        if (compressed.length != length) {
+            throw new EOFException("Truncated snapshot row group");
+        }
+        Object[][] rows = new Object[rowCount][columns.size()];
+        inflater.reset();
+        try (DataInputStream block = new DataInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(compressed), inflater, 64 * 1024))) {
+            for (int column = 0; column < columns.size(); column++) {
+                SnapshotColumn.Type type = columns.get(column).type();
+                for (Object[] row : rows) {
+                    row[column] = readValue(block, type);
+                }
+            }
+        }
+        return List.of(rows);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            in.close();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static Object readValue(DataInputStream block, SnapshotColumn.Type type) throws IOException {
+        if (block.readByte() == 0) {
+            return null;
+        }
+        return switch (type) {
+            case BIGINT -> block.readLong();
+            case INTEGER -> block.readInt();
+            case BOOLEAN -> block.readBoolean();
+            case VARCHAR -> new String(block.readNBytes(block.readInt()), StandardCharsets.UTF_8);
+            case TIMESTAMP -> SnapshotTimestamps.fromEpochMicros(block.readLong());
+            case VARBINARY -> block.readNBytes(block.readInt());
+        };
+    }
+
+    public record Table(String name, List<SnapshotColumn> columns) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.sample.projects.postandcomments.util.snapshot;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// TIMESTAMP(6) columns are stored as microseconds since the epoch, read as UTC wall-clock time
+final class SnapshotTimestamps {
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private SnapshotTimestamps() {
+        // Utility class - prevent instantiation
+    }
+
+    static long toEpochMicros(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + value.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, MICROS_PER_SECOND),
+                (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1_000, ZoneOffset.UTC);
+    }
+}
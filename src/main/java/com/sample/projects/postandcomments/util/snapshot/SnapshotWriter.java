@@ -0,0 +1,127 @@
+package com.sample.projects.postandcomments.util.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes the snapshot format: a header, then per table its column list followed by
+ * Deflate-compressed row groups. Inside a row group values are stored column by column
+ * (a presence byte, then the value; strings and bytes are length-prefixed), which keeps
+ * similar values together and compresses far better than row-wise SQL.
+ * <pre>
+ * file      := MAGIC VERSION table* END
+ * table     := TABLE name:utf columnCount:short (name:utf type:byte)* rowGroup* rowCount=0:int
+ * rowGroup  := rowCount:int length:int deflate(column-major values)
+ * </pre>
+ */
+public class SnapshotWriter implements Closeable {
+
+    static final int MAGIC = 0x50435331; // "PCS1"
+    static final byte VERSION = 1;
+    static final byte TABLE = 1;
+    static final byte END = 0;
+
+    private final DataOutputStream out;
+    private final int rowGroupSize;
+    private final List<Object[]> rowGroup = new ArrayList<>();
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private List<SnapshotColumn> columns;
+
+    public SnapshotWriter(OutputStream outputStream, int rowGroupSize) throws IOException {
+        this.out = new DataOutputStream(outputStream);
+        this.rowGroupSize = rowGroupSize;
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+    }
+
+    public void beginTable(String name, List<SnapshotColumn> columns) throws IOException {
+        if (this.columns != null) {
+            throw new IllegalStateException("Table still open; call endTable first");
+        }
+        this.columns = List.copyOf(columns);
+        out.writeByte(TABLE);
+        out.writeUTF(name);
+        out.writeShort(columns.size());
+        for (SnapshotColumn column : columns) {
+            out.writeUTF(column.name());
+            out.writeByte(column.type().code());
+        }
+    }
+
+    public void writeRow(Object[] values) throws IOException {
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " values but got " + values.length);
+        }
+        rowGroup.add(values);
+        if (rowGroup.size() == rowGroupSize) {
+            flushRowGroup();
+        }
+    }
+
+    public void endTable() throws IOException {
+        flushRowGroup();
+        out.writeInt(0);
+        columns = null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            out.writeByte(END);
+            out.flush();
+        } finally {
+            deflater.end();
+            out.close();
+        }
+    }
+
+    private void flushRowGroup() throws IOException {
+        if (rowGroup.isEmpty()) {
+            return;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        deflater.reset();
+        try (DataOutputStream block = new DataOutputStream(new DeflaterOutputStream(compressed, deflater, 64 * 1024))) {
+            for (int column = 0; column < columns.size(); column++) {
+                SnapshotColumn.Type type = columns.get(column).type();
+                for (Object[] row : rowGroup) {
+                    writeValue(block, type, row[column]);
+                }
+            }
+        }
+        out.writeInt(rowGroup.size());
+        out.writeInt(compressed.size());
+        compressed.writeTo(out);
+        rowGroup.clear();
+    }
+
+    private static void writeValue(DataOutputStream block, SnapshotColumn.Type type, Object value) throws IOException {
+        if (value == null) {
+            block.writeByte(0);
+            return;
+        }
+        block.writeByte(1);
+        switch (type) {
+            case BIGINT -> block.writeLong(((Number) value).longValue());
+            case INTEGER -> block.writeInt(((Number) value).intValue());
+            case BOOLEAN -> block.writeBoolean((Boolean) value);
+            case VARCHAR -> writeBytes(block, ((String) value).getBytes(StandardCharsets.UTF_8));
+            case TIMESTAMP -> block.writeLong(SnapshotTimestamps.toEpochMicros((LocalDateTime) value));
+            case VARBINARY -> writeBytes(block, (byte[]) value);
+        }
+    }
+
+    private static void writeBytes(DataOutputStream block, byte[] bytes) throws IOException {
+        block.writeInt(bytes.length);
+        block.write(bytes);
+    }
+}
@@ -0,0 +1,41 @@
+-- Baseline schema matching the JPA entity model (validated on startup)
+CREATE TABLE post (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title      VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+-- PostDetailEntity uses @MapsId, so it shares the same ID as PostEntity
+CREATE TABLE post_detail (
+    id          BIGINT NOT NULL PRIMARY KEY,
+    description VARCHAR(5000),
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT fk_post_detail_post FOREIGN KEY (id) REFERENCES post (id)
+);
+
+CREATE TABLE post_comments (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    comment    VARCHAR(255),
+    post_id    BIGINT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    CONSTRAINT fk_post_comments_post FOREIGN KEY (post_id) REFERENCES post (id)
+);
+
+CREATE TABLE tag (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    CONSTRAINT uk_tag_name UNIQUE (name)
+);
+
+CREATE TABLE post_tag (
+    post_id BIGINT NOT NULL,
+    tag_id  BIGINT NOT NULL,
+    CONSTRAINT pk_post_tag PRIMARY KEY (post_id, tag_id),
+    CONSTRAINT fk_post_tag_post FOREIGN KEY (post_id) REFERENCES post (id),
+    CONSTRAINT fk_post_tag_tag FOREIGN KEY (tag_id) REFERENCES tag (id)
+);
@@ -0,0 +1,12 @@
+-- Comments of a post, in insertion order (PostCommentRepository.findByPostEntity_Id)
+CREATE INDEX idx_post_comments_post_id ON post_comments (post_id, id);
+
+-- Posts carrying a tag; the primary key already covers the (post_id, tag_id) direction
+CREATE INDEX idx_post_tag_tag_id ON post_tag (tag_id, post_id);
+
+-- Recent posts and created-before range scans
+CREATE INDEX idx_post_created_at ON post (created_at, id);
+
+-- H2 has no expression indexes, so case-insensitive tag lookups go through a generated column
+ALTER TABLE tag ADD COLUMN name_lower VARCHAR(255) GENERATED ALWAYS AS (LOWER(name));
+CREATE INDEX idx_tag_name_lower ON tag (name_lower);
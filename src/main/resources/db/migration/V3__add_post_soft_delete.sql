@@ -0,0 +1,5 @@
+-- Tombstone for soft-deleted posts (PostEntity is @SoftDelete); rows are removed later by the purger
+ALTER TABLE post ADD COLUMN deleted BOOLEAN DEFAULT FALSE NOT NULL;
+
+-- Purger scan: SELECT id FROM post WHERE deleted = TRUE ORDER BY id
+CREATE INDEX idx_post_deleted ON post (deleted, id);
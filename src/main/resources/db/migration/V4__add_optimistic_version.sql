@@ -0,0 +1,5 @@
+-- Optimistic locking (BaseEntity.version); existing rows start at version 0
+ALTER TABLE post ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE post_detail ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE post_comments ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE tag ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
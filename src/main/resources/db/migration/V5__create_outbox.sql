@@ -0,0 +1,13 @@
+-- Transactional outbox: one row per service-layer write, appended in the writer's transaction
+CREATE TABLE outbox (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_type VARCHAR(16) NOT NULL,
+    aggregate_id   BIGINT NOT NULL,
+    post_id        BIGINT,
+    change_type    VARCHAR(16) NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    published_at   TIMESTAMP(6)
+);
+
+-- Relay poll: WHERE published_at IS NULL ORDER BY id; retention sweep: WHERE published_at < ?
+CREATE INDEX idx_outbox_published_at ON outbox (published_at, id);
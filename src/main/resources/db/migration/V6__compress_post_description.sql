@@ -0,0 +1,7 @@
+-- post_detail.description becomes binary (TextCompression format: marker byte + payload).
+-- Existing rows are kept as plain UTF-8 (marker 0) and get compressed on their next update.
+-- 15000 bytes covers 5000 characters of UTF-8, plus the marker.
+ALTER TABLE post_detail ADD COLUMN description_data VARBINARY(15001);
+UPDATE post_detail SET description_data = X'00' || STRINGTOUTF8(description) WHERE description IS NOT NULL;
+ALTER TABLE post_detail DROP COLUMN description;
+ALTER TABLE post_detail ALTER COLUMN description_data RENAME TO description;
@@ -0,0 +1,5 @@
+-- Long descriptions are stored outside the table (DescriptionBlobService); the row keeps the
+-- SHA-256 of the blob and its size in bytes, and description stays NULL
+ALTER TABLE post_detail ADD COLUMN description_hash VARCHAR(64);
+ALTER TABLE post_detail ADD COLUMN description_length INT;
+CREATE INDEX idx_post_detail_description_hash ON post_detail (description_hash);
@@ -1,3 +1,5 @@
+-- Sample data, applied once by Flyway when classpath:db/seed is on spring.flyway.locations
+
 -- Sample data for PostEntity entity
 INSERT INTO post (title, created_at, updated_at) VALUES
 ('Introduction to Spring Boot', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
@@ -0,0 +1,137 @@
+package com.sample.projects.postandcomments.benchmark;
+
+import com.sample.projects.postandcomments.dto.request.PostRequest;
+import com.sample.projects.postandcomments.service.PostService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput of {@code GET /api/v1/post/get/{id}?includeAi=true} at high concurrency, with the LLM replaced
+ * by a model that sleeps for a fixed latency. On platform threads Tomcat's 200 workers cap it near
+ * 200 / latency; on virtual threads the AI bulkhead is the limit.
+ * Run with {@code mvn -Pbenchmark test -Dtest=AiConcurrencyLoadBenchmarkTest -Dbenchmark.virtual=false}
+ * (and {@code true}) to compare.
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=${benchmark.virtual:true}",
+        "app.ai.max-concurrent-calls=${benchmark.concurrency:1000}",
+        "app.ai.acquire-timeout=PT1M",
+        // Measures raw capacity, so the per-client and adaptive limits stay out of the way
+        "app.rate-limit.enabled=false",
+        "app.concurrency-limit.enabled=false"})
+@DisplayName("AI Concurrency Load Benchmark")
+class AiConcurrencyLoadBenchmarkTest {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 5_000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1_000);
+    private static final long AI_LATENCY_MILLIS = Long.getLong("benchmark.aiLatencyMs", 200);
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private PostService postService;
+
+    @TestConfiguration
+    static class SlowModelConfig {
+
+        @Bean
+        ChatClient chatClient() {
+            return ChatClient.builder(new ChatModel() {
+                @Override
+                public ChatResponse call(Prompt prompt) {
+                    try {
+                        Thread.sleep(AI_LATENCY_MILLIS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return new ChatResponse(List.of(new Generation(new AssistantMessage("Explained"))));
+                }
+            }).build();
+        }
+    }
+
+    @Test
+    @DisplayName("includeAi - Should report throughput at high concurrency")
+    void testIncludeAiThroughput() throws Exception {
+        long postId = postService.save(PostRequest.builder().title("Load test post").build()).getId();
+        URI uri = URI.create("http://localhost:" + port + "/api/v1/post/get/" + postId + "?includeAi=true");
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        AtomicInteger failures = new AtomicInteger();
+        long[] latencies = new long[REQUESTS];
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(executor)
+                     .build()) {
+            Future<?>[] futures = new Future<?>[REQUESTS];
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                inFlight.acquire();
+                futures[i] = executor.submit(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception ex) {
+                        failures.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - sent;
+                        inFlight.release();
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        log.info("includeAi load: virtualThreads={}, requests={}, concurrency={}, aiLatency={} ms, "
+                        + "throughput={} req/s, p50={} ms, p99={} ms, failures={}",
+                virtualThreads, REQUESTS, CONCURRENCY, AI_LATENCY_MILLIS,
+                REQUESTS * 1_000_000_000L / elapsedNanos,
+                latencies[REQUESTS / 2] / 1_000_000, latencies[REQUESTS * 99 / 100] / 1_000_000, failures.get());
+        assertThat(failures.get()).isZero();
+    }
+}
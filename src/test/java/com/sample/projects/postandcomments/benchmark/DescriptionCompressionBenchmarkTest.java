@@ -0,0 +1,138 @@
+package com.sample.projects.postandcomments.benchmark;
+
+import com.sample.projects.postandcomments.entity.CompressedTextConverter;
+import com.sample.projects.postandcomments.util.TextCompression;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares plain VARCHAR descriptions with the compressed binary column: on-disk size of an H2 file
+ * database, and the time to read every description back (cold decode and through the decoded-value cache).
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark.descriptions=200000}.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Description Compression Benchmark")
+class DescriptionCompressionBenchmarkTest {
+
+    private static final int DESCRIPTIONS = Integer.getInteger("benchmark.descriptions", 50_000);
+    // Hot rows re-read through the converter; small enough to fit in its decoded-value cache
+    private static final int HOT_ROWS = Math.min(DESCRIPTIONS, 5_000);
+    private static final String[] WORDS = {
+            "spring", "boot", "java", "post", "comment", "tag", "cache", "index", "query", "latency",
+            "throughput", "database", "service", "request", "response", "thread", "memory", "the", "a", "and",
+            "of", "to", "in", "is", "for", "with", "on", "that", "this", "performance"};
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    @DisplayName("compression - Should shrink storage and report read latency versus plain text")
+    void testCompressionVersusPlain() throws SQLException, IOException {
+        List<String> descriptions = descriptions();
+
+        long plainBytes = load("plain", "VARCHAR(5000)", descriptions, false);
+        long compressedBytes = load("compressed", "VARBINARY(15001)", descriptions, true);
+
+        long plainReadMillis = read("plain", false, null, DESCRIPTIONS);
+        long compressedReadMillis = read("compressed", true, null, DESCRIPTIONS);
+        long hotPlainMillis = read("plain", false, null, HOT_ROWS);
+        CompressedTextConverter converter = new CompressedTextConverter();
+        read("compressed", true, converter, HOT_ROWS);
+        long hotCachedMillis = read("compressed", true, converter, HOT_ROWS);
+
+        log.info("Descriptions: count={}, plainFile={} KB, compressedFile={} KB, plainRead={} ms, "
+                        + "compressedRead={} ms, hotRows={}, hotPlainRead={} ms, hotCachedRead={} ms",
+                DESCRIPTIONS, plainBytes / 1024, compressedBytes / 1024, plainReadMillis,
+                compressedReadMillis, HOT_ROWS, hotPlainMillis, hotCachedMillis);
+        assertThat(compressedBytes).isLessThan(plainBytes);
+    }
+
+    // Same shape as the datagen profile: log-normal lengths around 600 characters, capped at 5000
+    private static List<String> descriptions() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<String> descriptions = new ArrayList<>(DESCRIPTIONS);
+        for (int i = 0; i < DESCRIPTIONS; i++) {
+            int length = (int) Math.max(1, Math.min(5000, Math.round(Math.exp(Math.log(600) + 0.9 * random.nextGaussian()))));
+            StringBuilder description = new StringBuilder(length + 16);
+            while (description.length() < length) {
+                description.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            description.setLength(length);
+            descriptions.add(description.toString());
+        }
+        return descriptions;
+    }
+
+    // Returns the database file size after a clean shutdown
+    private long load(String name, String columnType, List<String> descriptions, boolean compressed)
+            throws SQLException, IOException {
+        try (Connection connection = DriverManager.getConnection(url(name), "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE post_detail (id BIGINT PRIMARY KEY, description " + columnType + ")");
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO post_detail VALUES (?, ?)")) {
+                for (int i = 0; i < descriptions.size(); i++) {
+                    insert.setLong(1, i + 1);
+                    if (compressed) {
+                        insert.setBytes(2, TextCompression.encode(descriptions.get(i)));
+                    } else {
+                        insert.setString(2, descriptions.get(i));
+                    }
+                    insert.addBatch();
+                    if (i % 1000 == 999) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            statement.execute("SHUTDOWN COMPACT");
+        }
+        return Files.size(dataDir.resolve(name + ".mv.db"));
+    }
+
+    private long read(String name, boolean compressed, CompressedTextConverter converter, int rows)
+            throws SQLException {
+        long start = System.nanoTime();
+        long characters = 0;
+        try (Connection connection = DriverManager.getConnection(url(name), "sa", "");
+             PreparedStatement select = connection.prepareStatement("SELECT description FROM post_detail WHERE id <= ?")) {
+            select.setLong(1, rows);
+            ResultSet resultSet = select.executeQuery();
+            while (resultSet.next()) {
+                String description;
+                if (!compressed) {
+                    description = resultSet.getString(1);
+                } else if (converter != null) {
+                    description = converter.convertToEntityAttribute(resultSet.getBytes(1));
+                } else {
+                    description = TextCompression.decode(resultSet.getBytes(1));
+                }
+                characters += description.length();
+            }
+        }
+        assertThat(characters).isPositive();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private String url(String name) {
+        return "jdbc:h2:file:" + dataDir.resolve(name) + ";DB_CLOSE_ON_EXIT=FALSE";
+    }
+}
@@ -0,0 +1,108 @@
+package com.sample.projects.postandcomments.benchmark;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures how long the prod profile's H2 file database takes to come back after a restart
+ * with a few million rows, compared with the time it took to load them.
+ * Run with {@code mvn -Pbenchmark test -Dbenchmark.posts=1000000 -Dbenchmark.commentsPerPost=4}.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("H2 File Mode Restart Benchmark")
+class H2FileRestartBenchmarkTest {
+
+    private static final int POSTS = Integer.getInteger("benchmark.posts", 500_000);
+    private static final int COMMENTS_PER_POST = Integer.getInteger("benchmark.commentsPerPost", 4);
+
+    // Same settings as application-prod.properties
+    private static final String SETTINGS = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE"
+            + ";CACHE_SIZE=131072;WRITE_DELAY=500;MAX_COMPACT_TIME=2000;DB_CLOSE_ON_EXIT=FALSE";
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    @DisplayName("restart - Should reopen a multi-million row file database without re-seeding")
+    void testRestartTime() throws SQLException {
+        String url = "jdbc:h2:file:" + dataDir.resolve("postcomments") + SETTINGS;
+        long comments = (long) POSTS * COMMENTS_PER_POST;
+
+        // Initial boot: migrate and load
+        long loadStart = System.nanoTime();
+        migrate(url);
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO post (title, created_at, updated_at) "
+                    + "SELECT 'Benchmark post ' || X, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, " + POSTS + ")");
+            statement.execute("INSERT INTO post_detail (id, description, created_at, updated_at) "
+                    + "SELECT X, X'00' || STRINGTOUTF8(REPEAT('Benchmark description text. ', 20)), "
+                    + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, " + POSTS + ")");
+            statement.execute("INSERT INTO post_comments (comment, post_id, created_at, updated_at) "
+                    + "SELECT 'Benchmark comment ' || X, MOD(X, " + POSTS + ") + 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP "
+                    + "FROM SYSTEM_RANGE(1, " + comments + ")");
+        }
+        // The last connection closing shuts the database down, including the bounded compaction
+        long loadMillis = millisSince(loadStart);
+
+        // Restart: open, validate migrations (no-op), first reads
+        long restartStart = System.nanoTime();
+        migrate(url);
+        long rowCount;
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            long openMillis = millisSince(restartStart);
+            rowCount = count(connection, "post_comments");
+            long firstCountMillis = millisSince(restartStart);
+            assertThat(findTitle(connection, POSTS / 2L)).isEqualTo("Benchmark post " + (POSTS / 2));
+            log.info("H2 file restart: posts={}, comments={}, initialLoad={} ms, open+migrate={} ms, "
+                            + "firstCount={} ms, firstLookup={} ms",
+                    POSTS, comments, loadMillis, openMillis, firstCountMillis, millisSince(restartStart));
+        }
+
+        assertThat(rowCount).isEqualTo(comments);
+    }
+
+    private static void migrate(String url) {
+        Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    private static long count(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static String findTitle(Connection connection, long id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT title FROM post WHERE id = ?")) {
+            statement.setLong(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : null;
+            }
+        }
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,46 @@
+package com.sample.projects.postandcomments.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the JMH benchmarks in this package from the test phase.
+ * Run with {@code mvn -Pbenchmark test -Dtest=JmhBenchmarkTest -Dbenchmark.jmh.include=ResponseEnvelope}.
+ */
+@Tag("benchmark")
+@DisplayName("JMH Micro-Benchmarks")
+class JmhBenchmarkTest {
+
+    private static final String INCLUDE = System.getProperty("benchmark.jmh.include", ".*Benchmark");
+
+    @Test
+    @DisplayName("jmh - Should run the selected micro-benchmarks with the GC profiler")
+    void testRunBenchmarks() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JmhBenchmarkTest.class.getPackageName() + "\\." + INCLUDE)
+                // Surefire's manifest-only classpath jar is not visible to forked JVMs
+                .forks(0)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        assertThat(results).isNotEmpty();
+    }
+}
@@ -0,0 +1,52 @@
+package com.sample.projects.postandcomments.benchmark;
+
+import com.sample.projects.postandcomments.dto.CommonResponse;
+import com.sample.projects.postandcomments.util.CachedTimestampClock;
+import com.sample.projects.postandcomments.util.ResponseUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Envelope timestamp cost: formatting per call versus the per-millisecond cache, and a whole success
+ * envelope. Launched by {@link JmhBenchmarkTest}; compare ops/us and gc.alloc.rate.norm (bytes/op).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseEnvelopeBenchmark {
+
+    private CachedTimestampClock cachedClock;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        cachedClock = new CachedTimestampClock(Clock.systemDefaultZone());
+        request = new MockHttpServletRequest("GET", "/api/v1/post/1");
+    }
+
+    @Benchmark
+    public String formatPerCall() {
+        return LocalDateTime.now().format(CachedTimestampClock.FORMATTER);
+    }
+
+    @Benchmark
+    public String cachedPerMillisecond() {
+        return cachedClock.now();
+    }
+
+    @Benchmark
+    public CommonResponse<String> successEnvelope() {
+        return ResponseUtil.buildSuccessResponse(HttpStatus.OK, "ok", "payload", request);
+    }
+}
@@ -0,0 +1,88 @@
+package com.sample.projects.postandcomments.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sample.projects.postandcomments.dto.CommonResponse;
+import com.sample.projects.postandcomments.dto.response.PostCommentResponse;
+import com.sample.projects.postandcomments.dto.response.PostDetailResponse;
+import com.sample.projects.postandcomments.dto.response.PostResponse;
+import com.sample.projects.postandcomments.dto.response.TagResponse;
+import com.sample.projects.postandcomments.dto.serializer.ResponseDtoModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * A page of posts in the success envelope, written by the reflective bean serializers versus the
+ * handwritten ones in {@link ResponseDtoModule}. Launched by {@link JmhBenchmarkTest} with
+ * {@code -Dbenchmark.jmh.include=ResponseSerialization}; compare ops/ms and gc.alloc.rate.norm (bytes/op).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResponseSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper beanMapper;
+    private ObjectMapper moduleMapper;
+    private CommonResponse<List<PostResponse>> page;
+
+    @Setup
+    public void setUp() {
+        beanMapper = Jackson2ObjectMapperBuilder.json().build();
+        moduleMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new ResponseDtoModule()).build();
+        LocalDateTime now = LocalDateTime.now();
+        List<PostResponse> posts = LongStream.rangeClosed(1, PAGE_SIZE)
+                .mapToObj(id -> PostResponse.builder()
+                        .id(id)
+                        .title("Benchmark post " + id)
+                        .postDetailResponse(PostDetailResponse.builder()
+                                .id(id).postId(id).description("Benchmark description text. ".repeat(10))
+                                .createdAt(now).updatedAt(now).build())
+                        .comments(LongStream.rangeClosed(1, 4)
+                                .mapToObj(c -> PostCommentResponse.builder()
+                                        .id(id * 10 + c).review("Benchmark comment " + c).postId(id)
+                                        .createdAt(now).updatedAt(now).build())
+                                .toList())
+                        .tags(Set.of(TagResponse.builder().id(1L).name("java").build(),
+                                TagResponse.builder().id(2L).name("spring").build()))
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .version(0L)
+                        .build())
+                .toList();
+        page = CommonResponse.<List<PostResponse>>builder()
+                .status(200)
+                .message("Posts retrieved successfully")
+                .payload(posts)
+                .success(true)
+                .timestamp("2025-01-01T00:00:00.000")
+                .path("/api/v1/post/get/all")
+                .traceId("0190a5b3-7c2e-7000-8000-000000000000")
+                .apiVersion("1.0.0")
+                .correlationId("0190a5b3-7c2e-7000-8000-000000000001")
+                .build();
+    }
+
+    @Benchmark
+    public byte[] beanSerializers() throws JsonProcessingException {
+        return beanMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] handwrittenSerializers() throws JsonProcessingException {
+        return moduleMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,111 @@
+package com.sample.projects.postandcomments.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sample.projects.postandcomments.config.ConcurrencyLimitFilter.Priority;
+import com.sample.projects.postandcomments.util.Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ConcurrencyLimitFilter Tests")
+class ConcurrencyLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<MeterRegistry>>getArgument(0).accept(registry);
+            return null;
+        }).when(meterRegistry).ifAvailable(any());
+        // A fixed limit of 2: low priority may hold 1 slot, writes 1, single reads both
+        filter = new ConcurrencyLimitFilter(objectMapper, meterRegistry, TestHandlerMappings.controllers(), true, 2, 2, 2, 2.0, 0.5, 0.5);
+    }
+
+    @Test
+    @DisplayName("doFilter - Should shed expensive requests first and keep admitting cheap reads")
+    void testDoFilter_ShedsLowPriorityFirst() throws Exception {
+        // Given
+        List<MockHttpServletResponse> inner = new ArrayList<>();
+        MockHttpServletRequest aiRequest = request("GET", "/api/v1/post/get/1");
+        aiRequest.setParameter("includeAi", "true");
+
+        // When: while the AI request is in flight, another list read and a single read arrive
+        send(aiRequest, (req, res) -> {
+            inner.add(send(request("GET", "/api/v1/post/get/all"), (r, s) -> { }));
+            inner.add(send(request("GET", "/api/v1/post/get/2"), (r, s) -> { }));
+        });
+
+        // Then
+        assertThat(inner.get(0).getStatus()).isEqualTo(503);
+        assertThat(inner.get(0).getHeader("Retry-After")).isEqualTo("1");
+        assertThat(objectMapper.readTree(inner.get(0).getContentAsString()).get("message").asText())
+                .isEqualTo(Constants.SERVER_OVERLOADED);
+        assertThat(inner.get(1).getStatus()).isEqualTo(200);
+        assertThat(registry.get("http.server.admission.rejected").tag("priority", "low").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("http.server.admission.in-flight").gauge().value()).isZero();
+        assertThat(registry.get("http.server.admission.limit").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("doFilter - Should not limit requests outside the API")
+    void testDoFilter_NonApi() throws Exception {
+        List<MockHttpServletResponse> inner = new ArrayList<>();
+
+        send(request("GET", "/api/v1/post/get/all"), (req, res) ->
+                inner.add(send(request("GET", "/actuator/prometheus"), (r, s) -> { })));
+
+        assertThat(inner.get(0).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("priorityOf - Should rank single reads over writes over lists, bulk and AI requests")
+    void testPriorityOf() {
+        MockHttpServletRequest aiWrite = request("POST", "/api/v1/post/create");
+        aiWrite.setParameter("includeAi", "true");
+
+        assertThat(filter.priorityOf(request("GET", "/api/comments/7"))).isEqualTo(Priority.HIGH);
+        assertThat(filter.priorityOf(request("GET", "/api/v1/post-detail/get/post/7"))).isEqualTo(Priority.HIGH);
+        assertThat(filter.priorityOf(request("PATCH", "/api/tags/1"))).isEqualTo(Priority.NORMAL);
+        assertThat(filter.priorityOf(request("GET", "/api/comments/post/7"))).isEqualTo(Priority.LOW);
+        assertThat(filter.priorityOf(request("GET", "/api/comments"))).isEqualTo(Priority.LOW);
+        assertThat(filter.priorityOf(request("GET", "/api/tags"))).isEqualTo(Priority.LOW);
+        assertThat(filter.priorityOf(request("GET", "/api/v1/post-detail/get/all"))).isEqualTo(Priority.LOW);
+        assertThat(filter.priorityOf(request("POST", "/api/v1/admin/post/bulk-delete"))).isEqualTo(Priority.LOW);
+        assertThat(filter.priorityOf(aiWrite)).isEqualTo(Priority.LOW);
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request, FilterChain chain) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, chain);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+}
@@ -0,0 +1,136 @@
+package com.sample.projects.postandcomments.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sample.projects.postandcomments.util.ClientIdentity;
+import com.sample.projects.postandcomments.util.Constants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RateLimitFilter Tests")
+class RateLimitFilterTest {
+
+    private static final String TRUSTED_PROXY = "10.0.0.1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // Two writes, two list reads and one AI request per client, refilling slowly
+        filter = new RateLimitFilter(objectMapper, TestHandlerMappings.controllers(), true, List.of(TRUSTED_PROXY), 1000, 2, 0.01, 2, 0.01, 1, 0.01);
+    }
+
+    @Test
+    @DisplayName("doFilter - Should answer 429 with Retry-After once the write budget is spent")
+    void testDoFilter_WriteBudget() throws Exception {
+        assertThat(send("POST", "/api/v1/post/create", "client-a").getStatus()).isEqualTo(200);
+        assertThat(send("DELETE", "/api/v1/post/delete/1", "client-a").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = send("PUT", "/api/v1/post/update/1", "client-a");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(rejected.getHeader("Retry-After"))).isPositive();
+        assertThat(objectMapper.readTree(rejected.getContentAsString()).get("message").asText())
+                .isEqualTo(Constants.RATE_LIMIT_EXCEEDED);
+        // Other clients and other categories keep their own budgets
+        assertThat(send("POST", "/api/v1/post/create", "client-b").getStatus()).isEqualTo(200);
+        assertThat(send("GET", "/api/v1/post/get/all", "client-a").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("doFilter - Should limit AI-enriched requests and leave plain reads alone")
+    void testDoFilter_AiBudget() throws Exception {
+        MockHttpServletRequest aiRequest = request("GET", "/api/v1/post/get/1", "client-a");
+        aiRequest.setParameter("includeAi", "true");
+        assertThat(send(aiRequest).getStatus()).isEqualTo(200);
+        MockHttpServletRequest secondAiRequest = request("GET", "/api/v1/post/get/1", "client-a");
+        secondAiRequest.setParameter("includeAi", "true");
+        assertThat(send(secondAiRequest).getStatus()).isEqualTo(429);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(send("GET", "/api/v1/post/get/1", "client-a").getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    @DisplayName("doFilter - Should count every collection GET as a list read and refund it when the AI budget refuses")
+    void testDoFilter_ListBudget() throws Exception {
+        MockHttpServletRequest aiList = request("GET", "/api/tags", "client-a");
+        aiList.setParameter("includeAi", "true");
+        assertThat(send(aiList).getStatus()).isEqualTo(200);
+        MockHttpServletRequest secondAiList = request("GET", "/api/tags", "client-a");
+        secondAiList.setParameter("includeAi", "true");
+        assertThat(send(secondAiList).getStatus()).isEqualTo(429);
+
+        // One list token left after the refund
+        assertThat(send("GET", "/api/tags", "client-a").getStatus()).isEqualTo(200);
+        assertThat(send("GET", "/api/comments", "client-a").getStatus()).isEqualTo(429);
+        // Single-row reads stay unlimited
+        assertThat(send("GET", "/api/tags/1", "client-a").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("doFilter - Should key on the peer address, not on headers the client sets")
+    void testDoFilter_IgnoresClientSuppliedIdentity() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            assertThat(send("POST", "/api/v1/post/create", "192.0.2.7").getStatus()).isEqualTo(200);
+        }
+
+        MockHttpServletRequest spoofed = request("POST", "/api/v1/post/create", "192.0.2.7");
+        spoofed.addHeader(ClientIdentity.HEADER_NAME, "someone-else");
+        spoofed.addHeader("X-Forwarded-For", "198.51.100.1");
+
+        assertThat(send(spoofed).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("doFilter - Should key on the hop appended by a trusted proxy")
+    void testDoFilter_TrustedProxy() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            assertThat(send(proxied("203.0.113.5")).getStatus()).isEqualTo(200);
+        }
+        // A forged leftmost entry does not change the hop the proxy appended
+        assertThat(send(proxied("198.51.100.1, 203.0.113.5")).getStatus()).isEqualTo(429);
+        assertThat(send(proxied("203.0.113.6")).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("doFilter - Should pass everything through when disabled")
+    void testDoFilter_Disabled() throws Exception {
+        filter = new RateLimitFilter(objectMapper, TestHandlerMappings.controllers(), false, List.of(), 1000, 1, 0.01, 1, 0.01, 1, 0.01);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(send("POST", "/api/v1/post/create", "client-a").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse send(String method, String uri, String client) throws Exception {
+        return send(request(method, uri, client));
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(client);
+        return request;
+    }
+
+    private static MockHttpServletRequest proxied(String forwardedFor) {
+        MockHttpServletRequest request = request("POST", "/api/v1/post/create", TRUSTED_PROXY);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+}
@@ -0,0 +1,91 @@
+package com.sample.projects.postandcomments.config;
+
+import com.sample.projects.postandcomments.util.ClientIdentity;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@Slf4j
+@DisplayName("ReadWriteRoutingDataSource Tests")
+class ReadWriteRoutingDataSourceTest {
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReadWriteRoutingDataSource(
+                mock(DataSource.class),
+                List.of(mock(DataSource.class), mock(DataSource.class)),
+                new ReadYourWritesTracker(Duration.ofMinutes(1)));
+        MDC.put(ClientIdentity.MDC_KEY, "client-a");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        MDC.remove(ClientIdentity.MDC_KEY);
+    }
+
+    @Test
+    @DisplayName("determineCurrentLookupKey - Should route writes to the primary")
+    void testWriteTransaction_RoutesToPrimary() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When/Then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("determineCurrentLookupKey - Should round-robin read-only transactions across replicas")
+    void testReadOnlyTransaction_RoutesToReplicas() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When/Then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-0");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-0");
+    }
+
+    @Test
+    @DisplayName("onPrimary - Should route read-only work to the primary only inside the callback")
+    void testOnPrimary_RoutesToPrimary() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When/Then
+        assertThat(ReadWriteRoutingDataSource.onPrimary(routingDataSource::determineCurrentLookupKey))
+                .isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+        assertThat(routingDataSource.determineCurrentLookupKey()).asString().startsWith(ReadWriteRoutingDataSource.REPLICA_PREFIX);
+    }
+
+    @Test
+    @DisplayName("determineCurrentLookupKey - Should keep a client's reads on the primary after its write")
+    void testReadYourWrites_RoutesToPrimary() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When/Then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+
+        MDC.put(ClientIdentity.MDC_KEY, "client-b");
+        assertThat(routingDataSource.determineCurrentLookupKey()).asString().startsWith(ReadWriteRoutingDataSource.REPLICA_PREFIX);
+    }
+}
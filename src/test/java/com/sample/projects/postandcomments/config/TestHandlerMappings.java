@@ -0,0 +1,44 @@
+package com.sample.projects.postandcomments.config;
+
+import com.sample.projects.postandcomments.controller.AdminPostController;
+import com.sample.projects.postandcomments.controller.PostCommentController;
+import com.sample.projects.postandcomments.controller.PostController;
+import com.sample.projects.postandcomments.controller.PostDetailController;
+import com.sample.projects.postandcomments.controller.TagController;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The handler mapping of the application's controllers, detected from their annotations without creating
+ * them, for filter tests that classify requests by handler.
+ */
+final class TestHandlerMappings {
+
+    private TestHandlerMappings() {
+        // Utility class - prevent instantiation
+    }
+
+    @SuppressWarnings("unchecked")
+    static ObjectProvider<RequestMappingHandlerMapping> controllers() {
+        // Never refreshed: the mapping only needs the bean types
+        StaticApplicationContext context = new StaticApplicationContext();
+        for (Class<?> controller : List.of(PostController.class, PostDetailController.class,
+                PostCommentController.class, TagController.class, AdminPostController.class)) {
+            context.registerSingleton(StringUtils.uncapitalize(controller.getSimpleName()), controller);
+        }
+        RequestMappingHandlerMapping handlerMapping = new RequestMappingHandlerMapping();
+        handlerMapping.setApplicationContext(context);
+        handlerMapping.afterPropertiesSet();
+
+        ObjectProvider<RequestMappingHandlerMapping> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(handlerMapping);
+        return provider;
+    }
+}
@@ -1,10 +1,18 @@
 package com.sample.projects.postandcomments.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sample.projects.postandcomments.config.LeanResponseAdvice;
+import com.sample.projects.postandcomments.dto.request.PostPatchRequest;
 import com.sample.projects.postandcomments.dto.request.PostRequest;
+import com.sample.projects.postandcomments.dto.response.PostDetailResponse;
 import com.sample.projects.postandcomments.dto.response.PostResponse;
+import com.sample.projects.postandcomments.exception.ConflictException;
 import com.sample.projects.postandcomments.service.AiService;
+import com.sample.projects.postandcomments.service.PostResponseCache;
 import com.sample.projects.postandcomments.service.PostService;
+import com.sample.projects.postandcomments.service.impl.PostResponseCacheImpl;
 import com.sample.projects.postandcomments.util.Constants;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,27 +20,36 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @Slf4j
-@WebMvcTest(controllers = PostController.class)
+@WebMvcTest(controllers = PostController.class, properties = "server.compression.enabled=true")
+@Import(PostResponseCacheImpl.class)
 @DisplayName("PostController API Integration Tests")
 class PostControllerTest {
 
@@ -48,12 +65,16 @@ class PostControllerTest {
     @MockitoBean
     private AiService aiService;
 
+    @Autowired
+    private PostResponseCache postResponseCache;
+
     private PostRequest postRequest;
     private PostResponse postResponse;
 
     @BeforeEach
     void setUp() {
         log.debug("Setting up test data for PostControllerTest");
+        postResponseCache.invalidateAll();
         postRequest = PostRequest.builder()
                 .title("Test PostEntity Title")
                 .build();
@@ -133,6 +154,26 @@ class PostControllerTest {
         verify(postService).findById(1L);
     }
 
+    @Test
+    @DisplayName("GET /api/v1/postEntities/{id} - Should serve a hot postEntity from the serialized cache")
+    void testGetPostById_Cached() throws Exception {
+        when(postService.findById(1L)).thenReturn(Optional.of(postResponse));
+
+        String first = mockMvc.perform(get("/api/v1/post/get/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.title").value("Test PostEntity Title"))
+                .andReturn().getResponse().getContentAsString();
+        String second = mockMvc.perform(get("/api/v1/post/get/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload.id").value(1L))
+                .andExpect(jsonPath("$.payload.title").value("Test PostEntity Title"))
+                .andReturn().getResponse().getContentAsString();
+
+        verify(postService, times(1)).findById(1L);
+        assertThat(objectMapper.readTree(second).get("traceId"))
+                .isNotEqualTo(objectMapper.readTree(first).get("traceId"));
+    }
+
     @Test
     @DisplayName("GET /api/v1/postEntities/{id} - Should return 404 when postEntity not found")
     void testGetPostById_NotFound() throws Exception {
@@ -148,6 +189,83 @@ class PostControllerTest {
         verify(postService).findById(999L);
     }
 
+    @Test
+    @DisplayName("GET /api/v1/postEntities/{id} - Should return the bare payload with Prefer: return=minimal")
+    void testGetPostById_PreferMinimal() throws Exception {
+        when(postService.findById(1L)).thenReturn(Optional.of(postResponse));
+
+        mockMvc.perform(get("/api/v1/post/get/1").header("Prefer", "return=minimal"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.title").value("Test PostEntity Title"))
+                .andExpect(jsonPath("$.payload").doesNotExist())
+                .andExpect(header().exists(LeanResponseAdvice.TRACE_ID_HEADER))
+                .andExpect(header().string(LeanResponseAdvice.API_VERSION_HEADER, "1.0.0"))
+                .andExpect(header().string("Preference-Applied", "return=minimal"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/postEntities/{id} - Should return the bare payload for the lean Accept profile")
+    void testGetPostById_LeanProfile() throws Exception {
+        when(postService.findById(1L)).thenReturn(Optional.of(postResponse));
+
+        mockMvc.perform(get("/api/v1/post/get/1").accept("application/json;profile=lean"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.success").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/postEntities/{id} - Should keep the error envelope in lean mode")
+    void testGetPostById_NotFoundLean() throws Exception {
+        when(postService.findById(999L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/post/get/999").header("Prefer", "return=minimal"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(header().doesNotExist("Preference-Applied"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/postEntities/{id} - Should write the precompressed lean body when gzip is accepted")
+    void testGetPostById_LeanPrecompressed() throws Exception {
+        postResponse.setPostDetailResponse(PostDetailResponse.builder()
+                .id(1L).postId(1L).description("Long description. ".repeat(200)).build());
+        when(postService.findById(1L)).thenReturn(Optional.of(postResponse));
+
+        byte[] body = mockMvc.perform(get("/api/v1/post/get/1")
+                        .header("Prefer", "return=minimal")
+                        .header("Accept-Encoding", "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        String json;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            json = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(body.length).isLessThan(json.length() / 5);
+        assertThat(objectMapper.readTree(json).get("title").asText()).isEqualTo("Test PostEntity Title");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/postEntities/{id} - Should leave small or non-gzip lean bodies to the container")
+    void testGetPostById_LeanNotPrecompressed() throws Exception {
+        when(postService.findById(1L)).thenReturn(Optional.of(postResponse));
+
+        mockMvc.perform(get("/api/v1/post/get/1").header("Prefer", "return=minimal").header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$.id").value(1L));
+        postResponse.setPostDetailResponse(PostDetailResponse.builder().description("Long description. ".repeat(200)).build());
+        postResponseCache.invalidateAll();
+        mockMvc.perform(get("/api/v1/post/get/1").header("Prefer", "return=minimal").header("Accept-Encoding", "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$.id").value(1L));
+    }
+
     @Test
     @DisplayName("GET /api/v1/postEntities - Should return all postEntities")
     void testGetAllPosts_Success() throws Exception {
@@ -176,6 +294,26 @@ class PostControllerTest {
         verify(postService).findAll();
     }
 
+    @Test
+    @DisplayName("GET /api/v1/postEntities - Should encode the envelope as Smile when asked")
+    void testGetAllPosts_Smile() throws Exception {
+        when(postService.findAll()).thenReturn(List.of(postResponse));
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+
+        byte[] body = mockMvc.perform(get("/api/v1/post/get/all").accept(smile))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(smile))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode envelope = new ObjectMapper(new SmileFactory()).readTree(body);
+        assertThat(envelope.get("success").asBoolean()).isTrue();
+        assertThat(envelope.get("payload").get(0).get("title").asText()).isEqualTo("Test PostEntity Title");
+        // Boot's Jackson settings apply: dates as ISO strings like in JSON, not MVC's default timestamp arrays
+        assertThat(envelope.get("payload").get(0).get("createdAt").isTextual()).isTrue();
+        assertThat(envelope.get("payload").get(0).get("createdAt").asText())
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(postResponse)).get("createdAt").asText());
+    }
+
     @Test
     @DisplayName("PUT /api/v1/postEntities/{id} - Should update postEntity successfully")
     void testUpdatePost_Success() throws Exception {
@@ -253,4 +391,44 @@ class PostControllerTest {
 
         verify(postService).deleteById(999L);
     }
+
+    @Test
+    @DisplayName("PATCH /api/v1/post/update/{id} - Should return 204 with the next version as ETag")
+    void testPatchPost_Success() throws Exception {
+        when(postService.patch(eq(1L), any(PostPatchRequest.class), eq(3L))).thenReturn(4L);
+
+        mockMvc.perform(patch("/api/v1/post/update/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new PostPatchRequest("Patched Title"))))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/post/update/{id} - Should return 409 when the version is stale")
+    void testPatchPost_Conflict() throws Exception {
+        when(postService.patch(eq(1L), any(PostPatchRequest.class), eq(3L)))
+                .thenThrow(new ConflictException("PostEntity", 1L));
+
+        mockMvc.perform(patch("/api/v1/post/update/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new PostPatchRequest("Patched Title"))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/post/update/{id} - Should update unconditionally and still return the ETag without If-Match")
+    void testPatchPost_WithoutIfMatch() throws Exception {
+        when(postService.patch(eq(1L), any(PostPatchRequest.class), isNull())).thenReturn(7L);
+
+        mockMvc.perform(patch("/api/v1/post/update/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new PostPatchRequest("Patched Title"))))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"7\""));
+    }
 }
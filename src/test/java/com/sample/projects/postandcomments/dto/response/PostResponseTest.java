@@ -142,7 +142,8 @@ class PostResponseTest {
                 comments,
                 tags,
                 now,
-                now
+                now,
+                2L
         );
 
         // Then
@@ -153,6 +154,7 @@ class PostResponseTest {
         assertThat(response.getTags()).isEqualTo(tags);
         assertThat(response.getCreatedAt()).isEqualTo(now);
         assertThat(response.getUpdatedAt()).isEqualTo(now);
+        assertThat(response.getVersion()).isEqualTo(2L);
     }
 
     @Test
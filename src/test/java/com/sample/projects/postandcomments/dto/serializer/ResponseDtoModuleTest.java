@@ -0,0 +1,91 @@
+package com.sample.projects.postandcomments.dto.serializer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sample.projects.postandcomments.dto.CommonResponse;
+import com.sample.projects.postandcomments.dto.response.PostCommentResponse;
+import com.sample.projects.postandcomments.dto.response.PostDetailResponse;
+import com.sample.projects.postandcomments.dto.response.PostResponse;
+import com.sample.projects.postandcomments.dto.response.TagResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResponseDtoModule Unit Tests")
+class ResponseDtoModuleTest {
+
+    private final ObjectMapper defaultMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper moduleMapper = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new ResponseDtoModule())
+            .build();
+
+    @Test
+    @DisplayName("serialize - Should write the same JSON as the default bean serializers")
+    void testSerialize_MatchesDefault() throws Exception {
+        // Given
+        CommonResponse<List<PostResponse>> response = CommonResponse.<List<PostResponse>>builder()
+                .status(200)
+                .message("ok \"quoted\" ✓")
+                .payload(List.of(fullPost(), PostResponse.builder().id(2L).build()))
+                .success(true)
+                .timestamp("2025-01-02T03:04:05.006")
+                .path("/api/v1/post/get/all")
+                .traceId("trace")
+                .errors(List.of("first", "second"))
+                .meta(Map.of("page", 1))
+                .apiVersion("1.0.0")
+                .correlationId("correlation")
+                .build();
+
+        // When
+        String expected = defaultMapper.writeValueAsString(response);
+        String actual = moduleMapper.writeValueAsString(response);
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+        assertThat(moduleMapper.writeValueAsString(new CommonResponse<>())).isEqualTo(defaultMapper.writeValueAsString(new CommonResponse<>()));
+    }
+
+    @Test
+    @DisplayName("serialize - Should fall back to bean serializers when nulls are excluded")
+    void testSerialize_NonNullInclusion() throws Exception {
+        // Given
+        ObjectMapper nonNullDefault = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+        ObjectMapper nonNullModule = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .modulesToInstall(new ResponseDtoModule())
+                .build();
+        PostResponse post = PostResponse.builder().id(2L).title("Sparse").build();
+
+        // When/Then
+        assertThat(nonNullModule.writeValueAsString(post)).isEqualTo(nonNullDefault.writeValueAsString(post))
+                .doesNotContain("null");
+    }
+
+    private static PostResponse fullPost() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5, 6_000_000);
+        LinkedHashSet<TagResponse> tags = new LinkedHashSet<>();
+        tags.add(TagResponse.builder().id(1L).name("java").build());
+        tags.add(TagResponse.builder().id(2L).name(null).build());
+        return PostResponse.builder()
+                .id(1L)
+                .title("Title with \\ and \n")
+                .postDetailResponse(PostDetailResponse.builder()
+                        .id(1L).postId(1L).description("Description").createdAt(createdAt).build())
+                .comments(List.of(PostCommentResponse.builder()
+                        .id(10L).review("Nice").postId(1L).createdAt(createdAt).updatedAt(createdAt).build()))
+                .tags(tags)
+                .createdAt(createdAt)
+                .version(3L)
+                .build();
+    }
+}
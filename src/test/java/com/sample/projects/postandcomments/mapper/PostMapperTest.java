@@ -9,6 +9,7 @@ import com.sample.projects.postandcomments.entity.PostDetailEntity;
 import com.sample.projects.postandcomments.entity.PostEntity;
 import com.sample.projects.postandcomments.entity.TagEntity;
 import com.sample.projects.postandcomments.repository.PostRepository;
+import com.sample.projects.postandcomments.service.DescriptionBlobService;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,17 +22,21 @@ import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @Slf4j
 @DisplayName("PostMapper Unit Tests")
 class PostMapperTest {
 
     private PostRepository postRepository;
+    private DescriptionBlobService descriptionBlobService;
     private PostMapper postMapper;
 
     @BeforeEach
     void setUp() {
-        PostDetailMapper postDetailMapper = new PostDetailMapper(postRepository);
+        descriptionBlobService = mock(DescriptionBlobService.class);
+        PostDetailMapper postDetailMapper = new PostDetailMapper(postRepository, descriptionBlobService);
         postMapper = new PostMapper(postDetailMapper);
     }
 
@@ -117,6 +122,30 @@ class PostMapperTest {
 //        assertThat(response.getPostDetails().getPostId()).isEqualTo(1L);
     }
 
+    @Test
+    @DisplayName("toResponse - Should resolve an externalized description from the blob store")
+    void testToResponse_WithExternalizedDescription() {
+        // Given
+        PostEntity postEntity = PostEntity.builder()
+                .id(1L)
+                .title("Test PostEntity")
+                .build();
+        PostDetailEntity postDetailsEntity = PostDetailEntity.builder()
+                .id(1L)
+                .postEntity(postEntity)
+                .descriptionHash("ab".repeat(32))
+                .descriptionLength(4096)
+                .build();
+        postEntity.setDetails(postDetailsEntity);
+        when(descriptionBlobService.get("ab".repeat(32), 4096)).thenReturn("Long description");
+
+        // When
+        PostResponse response = postMapper.toPostResponse(postEntity);
+
+        // Then
+        assertThat(response.getPostDetailResponse().getDescription()).isEqualTo("Long description");
+    }
+
     @Test
     @DisplayName("toResponse - Should map postEntity with comments")
     void testToResponse_WithComments() {
@@ -0,0 +1,57 @@
+package com.sample.projects.postandcomments.repository;
+
+import com.sample.projects.postandcomments.entity.OutboxEventEntity;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.AggregateType;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.ChangeType;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Slf4j
+@DisplayName("OutboxEventRepository Data Layer Tests")
+class OutboxEventRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    @DisplayName("markPublished - Should drop events from the unpublished feed")
+    void testMarkPublished() {
+        // Given
+        OutboxEventEntity first = outboxEventRepository.save(event(1L));
+        OutboxEventEntity second = outboxEventRepository.save(event(2L));
+
+        // When
+        outboxEventRepository.markPublished(List.of(first.getId()), LocalDateTime.now());
+        entityManager.clear();
+
+        // Then
+        assertThat(outboxEventRepository.findUnpublished(10))
+                .extracting(OutboxEventEntity::getId)
+                .containsExactly(second.getId());
+    }
+
+    private static OutboxEventEntity event(Long postId) {
+        return OutboxEventEntity.builder()
+                .aggregateType(AggregateType.POST)
+                .aggregateId(postId)
+                .postId(postId)
+                .changeType(ChangeType.UPDATED)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
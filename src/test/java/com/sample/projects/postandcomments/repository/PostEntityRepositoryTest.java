@@ -5,6 +5,9 @@ import com.sample.projects.postandcomments.entity.PostDetailEntity;
 import com.sample.projects.postandcomments.entity.PostEntity;
 import com.sample.projects.postandcomments.entity.TagEntity;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +36,12 @@ class PostEntityRepositoryTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostCommentRepository postCommentRepository;
+
+    @Autowired
+    private PostDetailRepository postDetailRepository;
+
     private PostEntity postEntity;
     private TagEntity tagEntity1;
     private TagEntity tagEntity2;
@@ -42,11 +51,13 @@ class PostEntityRepositoryTest {
         // Create tagEntities
         tagEntity1 = TagEntity.builder()
                 .name("Spring Boot")
+                .createdAt(LocalDateTime.now())
                 .build();
         tagEntity1 = entityManager.persistAndFlush(tagEntity1);
 
         tagEntity2 = TagEntity.builder()
                 .name("Java")
+                .createdAt(LocalDateTime.now())
                 .build();
         tagEntity2 = entityManager.persistAndFlush(tagEntity2);
 
@@ -168,6 +179,32 @@ class PostEntityRepositoryTest {
         assertThat(foundPostEntity.getPostDetailEntity().getDescription()).isEqualTo("Test description");
     }
 
+    @Test
+    @DisplayName("save - Should store a long description compressed and read it back unchanged")
+    void testSave_CompressedDescription() {
+        // Given
+        PostEntity savedPostEntity = entityManager.persistAndFlush(postEntity);
+        String description = "Cache latency notes for the performance review. ".repeat(80);
+        entityManager.persistAndFlush(PostDetailEntity.builder()
+                .postEntity(savedPostEntity)
+                .description(description)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        entityManager.clear();
+
+        // When
+        PostDetailEntity foundPostDetailEntity = entityManager.find(PostDetailEntity.class, savedPostEntity.getId());
+        Number storedBytes = (Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT OCTET_LENGTH(description) FROM post_detail WHERE id = :id")
+                .setParameter("id", savedPostEntity.getId())
+                .getSingleResult();
+
+        // Then
+        assertThat(foundPostDetailEntity.getDescription()).isEqualTo(description);
+        assertThat(storedBytes.intValue()).isLessThan(description.length() / 10);
+    }
+
     @Test
     @DisplayName("save - Should persist postEntity with one-to-many relationship (Comments)")
     void testSave_WithComments() {
@@ -299,4 +336,346 @@ class PostEntityRepositoryTest {
         assertThat(foundTagEntity1.getPostEntities()).contains(foundPostEntity);
         assertThat(foundTagEntity2.getPostEntities()).contains(foundPostEntity);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("findById - Should not fetch postEntity detail when only the title is read")
+    void testFindById_DoesNotFetchPostDetailForTitleOnlyRead() {
+        // Given
+        Long postId = persistPostWithDetail();
+        Statistics statistics = enableStatistics();
+
+        // When
+        PostEntity foundPostEntity = postRepository.findById(postId).orElseThrow();
+        String title = foundPostEntity.getTitle();
+
+        // Then
+        assertThat(title).isEqualTo("Test PostEntity");
+        assertThat(Hibernate.isPropertyInitialized(foundPostEntity, "postDetailEntity")).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findById - Should fetch postEntity detail on first access only")
+    void testFindById_FetchesPostDetailOnAccess() {
+        // Given
+        Long postId = persistPostWithDetail();
+        Statistics statistics = enableStatistics();
+
+        // When
+        PostEntity foundPostEntity = postRepository.findById(postId).orElseThrow();
+        PostDetailEntity foundPostDetailEntity = foundPostEntity.getPostDetailEntity();
+
+        // Then
+        assertThat(foundPostDetailEntity).isNotNull();
+        assertThat(foundPostDetailEntity.getDescription()).isEqualTo("Lazy description");
+        assertThat(Hibernate.isPropertyInitialized(foundPostEntity, "postDetailEntity")).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("findAll - Should not fetch postEntity details when only titles are read")
+    void testFindAll_DoesNotFetchPostDetailsForTitleOnlyRead() {
+        // Given
+        persistPostWithDetail();
+        persistPostWithDetail();
+        Statistics statistics = enableStatistics();
+
+        // When
+        List<String> titles = postRepository.findAll().stream()
+                .map(PostEntity::getTitle)
+                .toList();
+
+        // Then
+        assertThat(titles).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("addTagAssociation - Should link tag without loading TagEntity.postEntities")
+    void testAddTagAssociation() {
+        // Given
+        PostEntity savedPostEntity = entityManager.persistAndFlush(PostEntity.builder()
+                .title("Untagged PostEntity")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        entityManager.clear();
+        Statistics statistics = enableStatistics();
+
+        // When
+        int inserted = postRepository.addTagAssociation(savedPostEntity.getId(), tagEntity1.getId());
+        int insertedAgain = postRepository.addTagAssociation(savedPostEntity.getId(), tagEntity1.getId());
+
+        // Then
+        assertThat(inserted).isEqualTo(1);
+        assertThat(insertedAgain).isEqualTo(1);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        entityManager.clear();
+        PostEntity foundPostEntity = entityManager.find(PostEntity.class, savedPostEntity.getId());
+        assertThat(foundPostEntity.getTagEntities()).extracting(TagEntity::getName)
+                .containsExactly("Spring Boot");
+    }
+
+    @Test
+    @DisplayName("removeTagAssociation - Should unlink tag with a single delete")
+    void testRemoveTagAssociation() {
+        // Given
+        PostEntity savedPostEntity = entityManager.persistAndFlush(postEntity);
+        entityManager.clear();
+
+        // When
+        int removed = postRepository.removeTagAssociation(savedPostEntity.getId(), tagEntity2.getId());
+
+        // Then
+        assertThat(removed).isEqualTo(1);
+        entityManager.clear();
+        PostEntity foundPostEntity = entityManager.find(PostEntity.class, savedPostEntity.getId());
+        assertThat(foundPostEntity.getTagEntities()).extracting(TagEntity::getName)
+                .containsExactly("Spring Boot");
+    }
+
+    @Test
+    @DisplayName("softDeleteById - Should hide postEntity from reads but keep the row")
+    void testSoftDeleteById() {
+        // Given
+        PostEntity savedPostEntity = entityManager.persistAndFlush(postEntity);
+        entityManager.clear();
+
+        // When
+        int marked = postRepository.softDeleteById(savedPostEntity.getId());
+        int markedAgain = postRepository.softDeleteById(savedPostEntity.getId());
+        entityManager.clear();
+
+        // Then
+        assertThat(marked).isEqualTo(1);
+        assertThat(markedAgain).isZero();
+        assertThat(postRepository.findById(savedPostEntity.getId())).isEmpty();
+        assertThat(postRepository.existsById(savedPostEntity.getId())).isFalse();
+        assertThat(postRepository.findSoftDeletedIds(10)).contains(savedPostEntity.getId());
+        Number version = (Number) entityManager.getEntityManager()
+                .createNativeQuery("SELECT version FROM post WHERE id = :id")
+                .setParameter("id", savedPostEntity.getId())
+                .getSingleResult();
+        assertThat(version.longValue()).isEqualTo(savedPostEntity.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("PostDetailEntity.postEntity - Should stay a lazy proxy with the soft-delete restriction")
+    void testPostDetail_KeepsPostEntityLazy() {
+        // Given
+        PostEntity savedPostEntity = entityManager.persistAndFlush(postEntity);
+        entityManager.persistAndFlush(PostDetailEntity.builder()
+                .postEntity(savedPostEntity)
+                .description("Lazy owner")
+                .createdAt(LocalDateTime.now())
+                .build());
+        entityManager.clear();
+
+        // When
+        PostDetailEntity foundPostDetailEntity = entityManager.find(PostDetailEntity.class, savedPostEntity.getId());
+
+        // Then
+        assertThat(Hibernate.isInitialized(foundPostDetailEntity.getPostEntity())).isFalse();
+        assertThat(foundPostDetailEntity.getPostEntity().isDeleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("incrementVersion - Should bump the version so a stale If-Match no longer matches")
+    void testIncrementVersion() {
+        // Given
+        PostEntity savedPostEntity = entityManager.persistAndFlush(postEntity);
+        Long id = savedPostEntity.getId();
+        long version = savedPostEntity.getVersion();
+        entityManager.clear();
+
+        // When
+        int bumped = postRepository.incrementVersion(id);
+        entityManager.clear();
+
+        // Then
+        assertThat(bumped).isEqualTo(1);
+        assertThat(postRepository.findVersionById(id)).contains(version + 1);
+        assertThat(postRepository.updateTitle(id, "Stale", LocalDateTime.now(), version)).isZero();
+    }
+
+    @Test
+    @DisplayName("findByLivePostId - Should hide comments and details of a soft-deleted postEntity")
+    void testFindByLivePostId_HidesSoftDeletedPost() {
+        // Given
+        PostEntity savedPostEntity = entityManager.persistAndFlush(postEntity);
+        entityManager.persist(PostDetailEntity.builder()
+                .postEntity(savedPostEntity)
+                .description("Tombstoned description")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        entityManager.persistAndFlush(PostCommentsEntity.builder()
+                .comment("Tombstoned comment")
+                .postEntity(savedPostEntity)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        entityManager.clear();
+        Long id = savedPostEntity.getId();
+        assertThat(postCommentRepository.findByLivePostIdOrderByIdAsc(id)).hasSize(1);
+        assertThat(postDetailRepository.findByLivePostId(id)).isPresent();
+
+        // When
+        postRepository.softDeleteById(id);
+        entityManager.clear();
+
+        // Then
+        assertThat(postCommentRepository.findByLivePostIdOrderByIdAsc(id)).isEmpty();
+        assertThat(postDetailRepository.findByLivePostId(id)).isEmpty();
+        assertThat(postCommentRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findLiveById/findAllLive - Should hide and protect comments and details of a soft-deleted postEntity")
+    void testLiveQueries_HideSoftDeletedPost() {
+        // Given
+        PostEntity savedPostEntity = entityManager.persistAndFlush(postEntity);
+        entityManager.persist(PostDetailEntity.builder()
+                .postEntity(savedPostEntity)
+                .description("Tombstoned description")
+                .createdAt(LocalDateTime.now())
+                .build());
+        PostCommentsEntity comment = entityManager.persistAndFlush(PostCommentsEntity.builder()
+                .comment("Tombstoned comment")
+                .postEntity(savedPostEntity)
+                .createdAt(LocalDateTime.now())
+                .build());
+        entityManager.clear();
+        assertThat(postCommentRepository.findLiveById(comment.getId())).isPresent();
+        assertThat(postCommentRepository.findAllLive()).extracting(PostCommentsEntity::getId).contains(comment.getId());
+        assertThat(postDetailRepository.findAllLive()).hasSize(1);
+
+        // When
+        postRepository.softDeleteById(savedPostEntity.getId());
+        entityManager.clear();
+
+        // Then
+        assertThat(postCommentRepository.findLiveById(comment.getId())).isEmpty();
+        assertThat(postCommentRepository.findAllLive()).isEmpty();
+        assertThat(postCommentRepository.existsLiveById(comment.getId())).isFalse();
+        assertThat(postCommentRepository.updateComment(comment.getId(), "Edited", LocalDateTime.now(), null)).isZero();
+        assertThat(postDetailRepository.findAllLive()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteChunkByPostIds - Should remove comments in bounded chunks")
+    void testDeleteChunkByPostIds() {
+        // Given
+        PostEntity savedPostEntity = entityManager.persistAndFlush(postEntity);
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(PostCommentsEntity.builder()
+                    .comment("Comment " + i)
+                    .postEntity(savedPostEntity)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        int firstChunk = postCommentRepository.deleteChunkByPostIds(List.of(savedPostEntity.getId()), 3);
+        int secondChunk = postCommentRepository.deleteChunkByPostIds(List.of(savedPostEntity.getId()), 3);
+
+        // Then
+        assertThat(firstChunk).isEqualTo(3);
+        assertThat(secondChunk).isEqualTo(2);
+        assertThat(postCommentRepository.findByLivePostIdOrderByIdAsc(savedPostEntity.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findIdsByTagIdCreatedBefore - Should select tagged postEntities older than the cut-off")
+    void testFindIdsByTagIdCreatedBefore() {
+        // Given
+        PostEntity savedPostEntity = entityManager.persistAndFlush(postEntity);
+        entityManager.clear();
+
+        // When
+        List<Long> older = postRepository.findIdsByTagIdCreatedBefore(
+                tagEntity1.getId(), LocalDateTime.now().plusDays(1), 10);
+        List<Long> newer = postRepository.findIdsByTagIdCreatedBefore(
+                tagEntity1.getId(), LocalDateTime.now().minusDays(1), 10);
+
+        // Then
+        assertThat(older).containsExactly(savedPostEntity.getId());
+        assertThat(newer).isEmpty();
+        assertThat(postRepository.findIdsByTagId(tagEntity2.getId(), 10)).containsExactly(savedPostEntity.getId());
+        assertThat(postRepository.findIdsCreatedBefore(LocalDateTime.now().plusDays(1), 10))
+                .contains(savedPostEntity.getId());
+    }
+
+    @Test
+    @DisplayName("updateTitle - Should apply only when the expected version matches")
+    void testUpdateTitle_Versioned() {
+        // Given
+        PostEntity savedPostEntity = entityManager.persistAndFlush(postEntity);
+        Long version = savedPostEntity.getVersion();
+
+        // When
+        int updated = postRepository.updateTitle(savedPostEntity.getId(), "Patched", LocalDateTime.now(), version);
+        int stale = postRepository.updateTitle(savedPostEntity.getId(), "Lost Update", LocalDateTime.now(), version);
+        int unconditional = postRepository.updateTitle(savedPostEntity.getId(), "Forced", LocalDateTime.now(), null);
+
+        // Then
+        assertThat(version).isZero();
+        assertThat(updated).isEqualTo(1);
+        assertThat(stale).isZero();
+        assertThat(unconditional).isEqualTo(1);
+        PostEntity foundPostEntity = postRepository.findById(savedPostEntity.getId()).orElseThrow();
+        assertThat(foundPostEntity.getTitle()).isEqualTo("Forced");
+        assertThat(foundPostEntity.getVersion()).isEqualTo(version + 2);
+    }
+
+    private Long persistPostWithDetail() {
+        PostEntity savedPostEntity = entityManager.persistAndFlush(PostEntity.builder()
+                .title("Test PostEntity")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        PostDetailEntity postDetailEntity = PostDetailEntity.builder()
+                .description("Lazy description")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        savedPostEntity.setDetails(postDetailEntity);
+        entityManager.persistAndFlush(postDetailEntity);
+        entityManager.clear();
+        return savedPostEntity.getId();
+    }
+
+    private Statistics enableStatistics() {
+        Statistics statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
+    @Test
+    @DisplayName("findPostIdById - Should resolve the owning postEntity without loading the comment")
+    void testFindPostIdById() {
+        // Given
+        PostEntity savedPostEntity = entityManager.persist(postEntity);
+        PostCommentsEntity comment = entityManager.persistAndFlush(PostCommentsEntity.builder()
+                .comment("Owned comment")
+                .postEntity(savedPostEntity)
+                .createdAt(LocalDateTime.now())
+                .build());
+        entityManager.clear();
+
+        // When/Then
+        assertThat(postCommentRepository.findPostIdById(comment.getId())).contains(savedPostEntity.getId());
+        assertThat(postCommentRepository.findPostIdById(-1L)).isEmpty();
+    }
+}
@@ -0,0 +1,63 @@
+package com.sample.projects.postandcomments.repository;
+
+import com.sample.projects.postandcomments.entity.TagEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Slf4j
+@DisplayName("TagRepository Data Layer Tests")
+class TagRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    private TagEntity tagEntity;
+
+    @BeforeEach
+    void setUp() {
+        tagEntity = entityManager.persistAndFlush(TagEntity.builder()
+                .name("Spring Boot")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("findByNameIgnoreCase - Should find tagEntity regardless of case")
+    void testFindByNameIgnoreCase() {
+        // When
+        Optional<TagEntity> foundTag = tagRepository.findByNameIgnoreCase("spring BOOT");
+
+        // Then
+        assertThat(foundTag).isPresent();
+        assertThat(foundTag.get().getId()).isEqualTo(tagEntity.getId());
+        assertThat(foundTag.get().getName()).isEqualTo("Spring Boot");
+    }
+
+    @Test
+    @DisplayName("findByNameIgnoreCase - Should return empty when no tagEntity matches")
+    void testFindByNameIgnoreCase_NotFound() {
+        // When
+        Optional<TagEntity> foundTag = tagRepository.findByNameIgnoreCase("Kotlin");
+
+        // Then
+        assertThat(foundTag).isEmpty();
+    }
+}
@@ -0,0 +1,89 @@
+package com.sample.projects.postandcomments.repository;
+
+import com.sample.projects.postandcomments.entity.TagEntity;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Cache entries are written on commit, so each repository call runs in its own transaction
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Slf4j
+@DisplayName("TagEntity Second-Level Cache Tests")
+class TagSecondLevelCacheTest {
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TagEntity tagEntity;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.getCache().evictAll();
+        tagEntity = tagRepository.save(TagEntity.builder()
+                .name("Second Level Cache")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tagRepository.deleteById(tagEntity.getId());
+    }
+
+    @Test
+    @DisplayName("findById - Should serve tagEntity from the second-level cache")
+    void testFindById_CacheHit() {
+        // Given
+        tagRepository.findById(tagEntity.getId());
+        statistics.clear();
+
+        // When
+        TagEntity foundTag = tagRepository.findById(tagEntity.getId()).orElseThrow();
+
+        // Then
+        assertThat(foundTag.getName()).isEqualTo("Second Level Cache");
+        assertThat(statistics.getDomainDataRegionStatistics("tag").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("findByNaturalId - Should resolve tagEntity name without SQL")
+    void testFindByNaturalId_CacheHit() {
+        // Given
+        tagRepository.findByNaturalId("Second Level Cache");
+        statistics.clear();
+
+        // When
+        TagEntity foundTag = tagRepository.findByNaturalId("Second Level Cache").orElseThrow();
+
+        // Then
+        assertThat(foundTag.getId()).isEqualTo(tagEntity.getId());
+        assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
@@ -0,0 +1,86 @@
+package com.sample.projects.postandcomments.service.impl;
+
+import com.sample.projects.postandcomments.dto.response.AiResponse;
+import com.sample.projects.postandcomments.dto.response.PostResponse;
+import com.sample.projects.postandcomments.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AiServiceImpl Unit Tests")
+class AiServiceImplTest {
+
+    private final PostResponse post = PostResponse.builder().id(1L).title("Virtual Threads").build();
+
+    @Test
+    @DisplayName("explainPost - Should return the model's explanation")
+    void testExplainPost_Success() {
+        // Given
+        AiServiceImpl aiService = new AiServiceImpl(client(prompt -> reply()), 1, Duration.ofMillis(50));
+
+        // When
+        AiResponse response = aiService.explainPost(post);
+
+        // Then
+        assertThat(response.getExplanation()).isEqualTo("Explained");
+        assertThat(response.getResourceId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("explainPost - Should reject with 503 when every call slot stays busy")
+    void testExplainPost_BulkheadFull() throws Exception {
+        // Given
+        CountDownLatch inCall = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AiServiceImpl aiService = new AiServiceImpl(client(prompt -> {
+            inCall.countDown();
+            await(release);
+            return reply();
+        }), 1, Duration.ofMillis(50));
+        CompletableFuture<AiResponse> first = CompletableFuture.supplyAsync(() -> aiService.explainPost(post));
+        assertThat(inCall.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When/Then
+        assertThatThrownBy(() -> aiService.explainPost(post))
+                .isInstanceOf(ServiceUnavailableException.class);
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getExplanation()).isEqualTo("Explained");
+        assertThat(aiService.explainPost(post).getExplanation()).isEqualTo("Explained");
+    }
+
+    private static ChatClient client(Function<Prompt, ChatResponse> model) {
+        return ChatClient.builder(new ChatModel() {
+            @Override
+            public ChatResponse call(Prompt prompt) {
+                return model.apply(prompt);
+            }
+        }).build();
+    }
+
+    private static ChatResponse reply() {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage("Explained"))));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
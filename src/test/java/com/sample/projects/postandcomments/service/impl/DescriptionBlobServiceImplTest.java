@@ -0,0 +1,159 @@
+package com.sample.projects.postandcomments.service.impl;
+
+import com.sample.projects.postandcomments.repository.PostDetailRepository;
+import com.sample.projects.postandcomments.service.DescriptionBlobService.DescriptionBlob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DescriptionBlobServiceImpl Unit Tests")
+class DescriptionBlobServiceImplTest {
+
+    private static final int THRESHOLD = 100;
+
+    @Mock
+    private PostDetailRepository postDetailRepository;
+
+    @TempDir
+    Path root;
+
+    private DescriptionBlobServiceImpl descriptionBlobService;
+
+    @BeforeEach
+    void setUp() {
+        descriptionBlobService = new DescriptionBlobServiceImpl(postDetailRepository, root.toString(), THRESHOLD,
+                Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("accepts - Should only accept descriptions at or above the threshold")
+    void testAccepts() {
+        assertThat(descriptionBlobService.accepts("x".repeat(THRESHOLD))).isTrue();
+        assertThat(descriptionBlobService.accepts("x".repeat(THRESHOLD - 1))).isFalse();
+        assertThat(descriptionBlobService.accepts(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("put - Should store identical descriptions once and read them back")
+    void testPut_Deduplicates() throws IOException {
+        // Given
+        String description = "Templated description ünïcode ".repeat(10);
+
+        // When
+        DescriptionBlob first = descriptionBlobService.put(description);
+        DescriptionBlob second = descriptionBlobService.put(description);
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(first.hash()).hasSize(64);
+        assertThat(first.length()).isEqualTo(description.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(countFiles()).isEqualTo(1);
+        assertThat(descriptionBlobService.get(first.hash(), first.length())).isEqualTo(description);
+    }
+
+    @Test
+    @DisplayName("get - Should reject a length mismatch and malformed hashes")
+    void testGet_Invalid() {
+        // Given
+        DescriptionBlob blob = descriptionBlobService.put("x".repeat(200));
+
+        // When/Then
+        assertThatThrownBy(() -> descriptionBlobService.get(blob.hash(), 199))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> descriptionBlobService.get("../../etc/passwd", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("deleteUnreferenced - Should delete old unreferenced blobs only")
+    void testDeleteUnreferenced() throws IOException {
+        // Given
+        DescriptionBlob referenced = descriptionBlobService.put("referenced ".repeat(20));
+        DescriptionBlob orphan = descriptionBlobService.put("orphan ".repeat(20));
+        DescriptionBlob recent = descriptionBlobService.put("recent ".repeat(20));
+        age(referenced);
+        age(orphan);
+        when(postDetailRepository.existsByDescriptionHash(referenced.hash())).thenReturn(true);
+        when(postDetailRepository.existsByDescriptionHash(orphan.hash())).thenReturn(false);
+
+        // When
+        int deleted = descriptionBlobService.deleteUnreferenced();
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(countFiles()).isEqualTo(2);
+        verify(postDetailRepository, never()).existsByDescriptionHash(recent.hash());
+    }
+
+    @Test
+    @DisplayName("deleteUnreferenced - Should keep a blob deduplicated by put after the reference check")
+    void testDeleteUnreferenced_RacingPut() throws IOException {
+        // Given
+        String description = "racing ".repeat(20);
+        DescriptionBlob blob = descriptionBlobService.put(description);
+        age(blob);
+        when(postDetailRepository.existsByDescriptionHash(blob.hash())).thenAnswer(invocation -> {
+            // A new row deduplicates onto the blob and commits after this check
+            descriptionBlobService.put(description);
+            return false;
+        });
+
+        // When
+        int deleted = descriptionBlobService.deleteUnreferenced();
+
+        // Then
+        assertThat(deleted).isZero();
+        assertThat(descriptionBlobService.get(blob.hash(), blob.length())).isEqualTo(description);
+    }
+
+    @Test
+    @DisplayName("deleteUnreferenced - Should restore a blob left aside by an interrupted sweep")
+    void testDeleteUnreferenced_RestoresTrash() throws IOException {
+        // Given
+        String description = "interrupted ".repeat(20);
+        DescriptionBlob blob = descriptionBlobService.put(description);
+        Path path = find(blob);
+        Files.move(path, path.resolveSibling(blob.hash() + ".trash"));
+
+        // When
+        descriptionBlobService.deleteUnreferenced();
+
+        // Then
+        assertThat(descriptionBlobService.get(blob.hash(), blob.length())).isEqualTo(description);
+        assertThat(countFiles()).isEqualTo(1);
+    }
+
+    private Path find(DescriptionBlob blob) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(file -> file.getFileName().toString().equals(blob.hash())).findFirst().orElseThrow();
+        }
+    }
+
+    private void age(DescriptionBlob blob) throws IOException {
+        Files.setLastModifiedTime(find(blob), FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
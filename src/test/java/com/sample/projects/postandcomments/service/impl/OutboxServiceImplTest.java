@@ -0,0 +1,134 @@
+package com.sample.projects.postandcomments.service.impl;
+
+import com.sample.projects.postandcomments.entity.OutboxEventEntity;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.AggregateType;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.ChangeType;
+import com.sample.projects.postandcomments.repository.OutboxEventRepository;
+import com.sample.projects.postandcomments.service.OutboxEventSubscriber;
+import com.sample.projects.postandcomments.service.PostChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxServiceImpl Unit Tests")
+class OutboxServiceImplTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ObjectProvider<OutboxEventSubscriber> subscribers;
+
+    @Mock
+    private OutboxEventSubscriber subscriber;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxServiceImpl outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxServiceImpl(outboxEventRepository, subscribers, eventPublisher, transactionManager,
+                BATCH_SIZE, Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("relay - Should deliver batches in order and mark them published")
+    void testRelay_Success() {
+        // Given
+        List<OutboxEventEntity> firstBatch = List.of(event(1L), event(2L));
+        List<OutboxEventEntity> secondBatch = List.of(event(3L));
+        when(outboxEventRepository.findUnpublished(BATCH_SIZE)).thenReturn(firstBatch, secondBatch);
+        when(subscribers.orderedStream()).thenAnswer(invocation -> Stream.of(subscriber));
+
+        // When
+        int published = outboxService.relay();
+
+        // Then
+        assertThat(published).isEqualTo(3);
+        var order = inOrder(subscriber, outboxEventRepository);
+        order.verify(subscriber).onEvents(firstBatch);
+        order.verify(outboxEventRepository).markPublished(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        order.verify(subscriber).onEvents(secondBatch);
+        order.verify(outboxEventRepository).markPublished(eq(List.of(3L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("relay - Should leave the batch unpublished when a subscriber fails")
+    void testRelay_SubscriberFailure() {
+        // Given
+        List<OutboxEventEntity> batch = List.of(event(1L), event(2L));
+        when(outboxEventRepository.findUnpublished(BATCH_SIZE)).thenReturn(batch);
+        when(subscribers.orderedStream()).thenAnswer(invocation -> Stream.of(subscriber));
+        doThrow(new IllegalStateException("index unavailable")).when(subscriber).onEvents(batch);
+
+        // When
+        int published = outboxService.relay();
+
+        // Then
+        assertThat(published).isZero();
+        verify(outboxEventRepository, never()).markPublished(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("relay - Should do nothing when the outbox is empty")
+    void testRelay_Empty() {
+        // Given
+        when(outboxEventRepository.findUnpublished(BATCH_SIZE)).thenReturn(List.of());
+
+        // When
+        int published = outboxService.relay();
+
+        // Then
+        assertThat(published).isZero();
+        verifyNoInteractions(subscribers);
+    }
+
+    @Test
+    @DisplayName("append - Should publish the changed postEntity, and all postEntities for a tag change")
+    void testAppend_PublishesPostChangedEvent() {
+        // When
+        outboxService.append(AggregateType.COMMENT, 10L, 1L, ChangeType.UPDATED);
+        outboxService.append(AggregateType.TAG, 3L, null, ChangeType.UPDATED);
+
+        // Then
+        verify(eventPublisher).publishEvent(new PostChangedEvent(1L));
+        verify(eventPublisher).publishEvent(PostChangedEvent.allPosts());
+    }
+
+    private static OutboxEventEntity event(Long id) {
+        return OutboxEventEntity.builder()
+                .id(id)
+                .aggregateType(AggregateType.POST)
+                .aggregateId(id)
+                .postId(id)
+                .changeType(ChangeType.UPDATED)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.sample.projects.postandcomments.service.impl;
+
+import com.sample.projects.postandcomments.dto.request.PostCommentRequest;
+import com.sample.projects.postandcomments.entity.PostEntity;
+import com.sample.projects.postandcomments.exception.ResourceNotFoundException;
+import com.sample.projects.postandcomments.mapper.PostMapper;
+import com.sample.projects.postandcomments.repository.PostCommentRepository;
+import com.sample.projects.postandcomments.repository.PostRepository;
+import com.sample.projects.postandcomments.service.OutboxService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// The existence probe is stubbed so the insert reaches the database and trips its real constraints
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("PostCommentServiceImpl Constraint Handling Tests")
+class PostCommentServiceImplIntegrationTest {
+
+    private static final long MISSING_POST_ID = 999_999L;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostCommentRepository postCommentRepository;
+
+    private PostRepository postRepository;
+    private PostCommentServiceImpl postCommentService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postCommentService = new PostCommentServiceImpl(postCommentRepository, postRepository,
+                mock(PostMapper.class), mock(OutboxService.class));
+    }
+
+    @Test
+    @DisplayName("addComment - Should map the post_id foreign key violation to ResourceNotFoundException")
+    void testAddComment_ForeignKeyViolation() {
+        // Given
+        when(postRepository.existsById(MISSING_POST_ID)).thenReturn(true);
+        when(postRepository.getReferenceById(MISSING_POST_ID))
+                .thenReturn(entityManager.getEntityManager().getReference(PostEntity.class, MISSING_POST_ID));
+        PostCommentRequest request = PostCommentRequest.builder().comment("Orphan").postId(MISSING_POST_ID).build();
+
+        // When/Then
+        assertThatThrownBy(() -> postCommentService.addComment(request))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("PostEntity with id " + MISSING_POST_ID + " not found");
+    }
+
+    @Test
+    @DisplayName("addComment - Should rethrow integrity violations other than the post_id foreign key")
+    void testAddComment_OtherViolation() {
+        // Given
+        PostEntity post = entityManager.persistAndFlush(PostEntity.builder()
+                .title("Live post")
+                .createdAt(LocalDateTime.now())
+                .build());
+        when(postRepository.existsById(post.getId())).thenReturn(true);
+        when(postRepository.getReferenceById(post.getId())).thenReturn(post);
+        PostCommentRequest request = PostCommentRequest.builder().comment("x".repeat(300)).postId(post.getId()).build();
+
+        // When/Then
+        assertThatThrownBy(() -> postCommentService.addComment(request))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,222 @@
+package com.sample.projects.postandcomments.service.impl;
+
+import com.sample.projects.postandcomments.dto.request.PostCommentPatchRequest;
+import com.sample.projects.postandcomments.dto.request.PostCommentRequest;
+import com.sample.projects.postandcomments.dto.response.PostCommentResponse;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.AggregateType;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.ChangeType;
+import com.sample.projects.postandcomments.entity.PostCommentsEntity;
+import com.sample.projects.postandcomments.entity.PostEntity;
+import com.sample.projects.postandcomments.exception.ConflictException;
+import com.sample.projects.postandcomments.exception.ResourceNotFoundException;
+import com.sample.projects.postandcomments.mapper.PostMapper;
+import com.sample.projects.postandcomments.repository.PostCommentRepository;
+import com.sample.projects.postandcomments.repository.PostRepository;
+import com.sample.projects.postandcomments.service.OutboxService;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostCommentServiceImpl Unit Tests")
+class PostCommentServiceImplTest {
+
+    @Mock
+    private PostCommentRepository postCommentRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostMapper postMapper;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @InjectMocks
+    private PostCommentServiceImpl postCommentService;
+
+    private PostCommentRequest postCommentRequest;
+    private PostEntity postReference;
+
+    @BeforeEach
+    void setUp() {
+        postCommentRequest = PostCommentRequest.builder()
+                .comment("Great postEntity!")
+                .postId(1L)
+                .build();
+
+        postReference = PostEntity.builder()
+                .id(1L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("addComment - Should attach comment by postEntity reference only")
+    void testAddComment_Success() {
+        // Given
+        PostCommentResponse response = PostCommentResponse.builder()
+                .id(10L)
+                .review("Great postEntity!")
+                .postId(1L)
+                .build();
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(postRepository.getReferenceById(1L)).thenReturn(postReference);
+        when(postCommentRepository.save(any(PostCommentsEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(postMapper.toPostCommentResponse(any(PostCommentsEntity.class))).thenReturn(response);
+
+        // When
+        PostCommentResponse result = postCommentService.addComment(postCommentRequest);
+
+        // Then
+        ArgumentCaptor<PostCommentsEntity> captor = ArgumentCaptor.forClass(PostCommentsEntity.class);
+        verify(postCommentRepository).save(captor.capture());
+        assertThat(captor.getValue().getPostEntity()).isSameAs(postReference);
+        assertThat(captor.getValue().getComment()).isEqualTo("Great postEntity!");
+        assertThat(captor.getValue().getCreatedAt()).isNotNull();
+        assertThat(result.getId()).isEqualTo(10L);
+        verify(postRepository, never()).findById(anyLong());
+        verify(outboxService).append(eq(AggregateType.COMMENT), isNull(), eq(1L), eq(ChangeType.CREATED));
+    }
+
+    @Test
+    @DisplayName("addComment - Should throw ResourceNotFoundException when postEntity does not exist")
+    void testAddComment_PostNotFound() {
+        // Given
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(postRepository.getReferenceById(1L)).thenReturn(postReference);
+        when(postCommentRepository.save(any(PostCommentsEntity.class)))
+                .thenThrow(integrityViolation("PUBLIC.FK_POST_COMMENTS_POST"));
+
+        // When/Then
+        assertThatThrownBy(() -> postCommentService.addComment(postCommentRequest))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("PostEntity with id 1 not found");
+    }
+
+    @Test
+    @DisplayName("addComment - Should rethrow integrity violations of other constraints")
+    void testAddComment_OtherConstraintViolation() {
+        // Given
+        DataIntegrityViolationException violation = integrityViolation("PUBLIC.CK_POST_COMMENTS_LENGTH");
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(postRepository.getReferenceById(1L)).thenReturn(postReference);
+        when(postCommentRepository.save(any(PostCommentsEntity.class))).thenThrow(violation);
+
+        // When/Then
+        assertThatThrownBy(() -> postCommentService.addComment(postCommentRequest))
+                .isSameAs(violation);
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    @DisplayName("addComment - Should reject a comment for a soft-deleted postEntity")
+    void testAddComment_SoftDeletedPost() {
+        // Given
+        when(postRepository.existsById(1L)).thenReturn(false);
+
+        // When/Then
+        assertThatThrownBy(() -> postCommentService.addComment(postCommentRequest))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("PostEntity with id 1 not found");
+        verify(postCommentRepository, never()).save(any(PostCommentsEntity.class));
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    @DisplayName("patch - Should update comment without loading it")
+    void testPatch_Success() {
+        // Given
+        PostCommentPatchRequest patchRequest = PostCommentPatchRequest.builder().comment("Edited").build();
+        when(postCommentRepository.updateComment(eq(10L), eq("Edited"), any(LocalDateTime.class), eq(0L))).thenReturn(1);
+        when(postCommentRepository.findPostIdById(10L)).thenReturn(Optional.of(1L));
+
+        // When
+        long version = postCommentService.patch(10L, patchRequest, 0L);
+
+        // Then
+        assertThat(version).isEqualTo(1L);
+        verify(postCommentRepository, never()).findVersionById(anyLong());
+        verify(outboxService).append(AggregateType.COMMENT, 10L, 1L, ChangeType.UPDATED);
+        verify(postCommentRepository, never()).findById(anyLong());
+        verify(postCommentRepository, never()).save(any(PostCommentsEntity.class));
+    }
+
+    @Test
+    @DisplayName("patch - Should read back the new version of an unconditional update")
+    void testPatch_WithoutExpectedVersion() {
+        // Given
+        PostCommentPatchRequest patchRequest = PostCommentPatchRequest.builder().comment("Edited").build();
+        when(postCommentRepository.updateComment(eq(10L), eq("Edited"), any(LocalDateTime.class), isNull())).thenReturn(1);
+        when(postCommentRepository.findVersionById(10L)).thenReturn(Optional.of(5L));
+
+        // When
+        long version = postCommentService.patch(10L, patchRequest, null);
+
+        // Then
+        assertThat(version).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("patch - Should throw ResourceNotFoundException for a comment of a soft-deleted postEntity")
+    void testPatch_SoftDeletedPost() {
+        // Given
+        PostCommentPatchRequest patchRequest = PostCommentPatchRequest.builder().comment("Edited").build();
+        when(postCommentRepository.updateComment(eq(10L), eq("Edited"), any(LocalDateTime.class), eq(0L))).thenReturn(0);
+        when(postCommentRepository.existsLiveById(10L)).thenReturn(false);
+
+        // When/Then
+        assertThatThrownBy(() -> postCommentService.patch(10L, patchRequest, 0L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    @DisplayName("update - Should throw ResourceNotFoundException for a comment of a soft-deleted postEntity")
+    void testUpdate_SoftDeletedPost() {
+        // Given
+        when(postCommentRepository.findLiveById(10L)).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> postCommentService.update(10L, PostCommentsEntity.builder().comment("Edited").build()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(postCommentRepository, never()).save(any(PostCommentsEntity.class));
+    }
+
+    @Test
+    @DisplayName("patch - Should throw ConflictException on a stale version")
+    void testPatch_Conflict() {
+        // Given
+        PostCommentPatchRequest patchRequest = PostCommentPatchRequest.builder().comment("Edited").build();
+        when(postCommentRepository.updateComment(eq(10L), eq("Edited"), any(LocalDateTime.class), eq(0L))).thenReturn(0);
+        when(postCommentRepository.existsLiveById(10L)).thenReturn(true);
+
+        // When/Then
+        assertThatThrownBy(() -> postCommentService.patch(10L, patchRequest, 0L))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    private static DataIntegrityViolationException integrityViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement",
+                        new SQLException("Integrity constraint violation"), constraintName));
+    }
+}
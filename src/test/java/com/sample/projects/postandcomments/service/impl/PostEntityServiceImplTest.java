@@ -1,13 +1,18 @@
 package com.sample.projects.postandcomments.service.impl;
 
+import com.sample.projects.postandcomments.dto.request.PostPatchRequest;
 import com.sample.projects.postandcomments.dto.request.PostRequest;
 import com.sample.projects.postandcomments.dto.response.PostResponse;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.AggregateType;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.ChangeType;
 import com.sample.projects.postandcomments.entity.PostEntity;
 import com.sample.projects.postandcomments.entity.TagEntity;
+import com.sample.projects.postandcomments.exception.ConflictException;
 import com.sample.projects.postandcomments.exception.ResourceNotFoundException;
 import com.sample.projects.postandcomments.exception.ValidationException;
 import com.sample.projects.postandcomments.mapper.PostMapper;
 import com.sample.projects.postandcomments.repository.PostRepository;
+import com.sample.projects.postandcomments.service.OutboxService;
 import com.sample.projects.postandcomments.service.TagService;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +45,9 @@ class PostEntityServiceImplTest {
     @Mock
     private TagService tagService;
 
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private PostServiceImpl postService;
 
@@ -274,6 +282,67 @@ class PostEntityServiceImplTest {
         verify(postRepository, never()).save(any(PostEntity.class));
     }
 
+    @Test
+    @DisplayName("patch - Should update title in one statement and return the next version")
+    void testPatch_Success() {
+        // Given
+        PostPatchRequest patchRequest = PostPatchRequest.builder().title("Patched Title").build();
+        when(postRepository.updateTitle(eq(1L), eq("Patched Title"), any(LocalDateTime.class), eq(3L))).thenReturn(1);
+
+        // When
+        long version = postService.patch(1L, patchRequest, 3L);
+
+        // Then
+        assertThat(version).isEqualTo(4L);
+        verify(postRepository, never()).findVersionById(anyLong());
+        verify(postRepository, never()).findById(anyLong());
+        verify(postRepository, never()).existsById(anyLong());
+        verify(postRepository, never()).save(any(PostEntity.class));
+    }
+
+    @Test
+    @DisplayName("patch - Should read back the new version of an unconditional update")
+    void testPatch_WithoutExpectedVersion() {
+        // Given
+        PostPatchRequest patchRequest = PostPatchRequest.builder().title("Patched Title").build();
+        when(postRepository.updateTitle(eq(1L), eq("Patched Title"), any(LocalDateTime.class), isNull())).thenReturn(1);
+        when(postRepository.findVersionById(1L)).thenReturn(Optional.of(8L));
+
+        // When
+        long version = postService.patch(1L, patchRequest, null);
+
+        // Then
+        assertThat(version).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("patch - Should throw ConflictException when the version has moved on")
+    void testPatch_Conflict() {
+        // Given
+        PostPatchRequest patchRequest = PostPatchRequest.builder().title("Patched Title").build();
+        when(postRepository.updateTitle(eq(1L), eq("Patched Title"), any(LocalDateTime.class), eq(3L))).thenReturn(0);
+        when(postRepository.existsById(1L)).thenReturn(true);
+
+        // When/Then
+        assertThatThrownBy(() -> postService.patch(1L, patchRequest, 3L))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("PostEntity with id 1 was modified concurrently");
+    }
+
+    @Test
+    @DisplayName("patch - Should throw ResourceNotFoundException when postEntity not found")
+    void testPatch_NotFound() {
+        // Given
+        PostPatchRequest patchRequest = PostPatchRequest.builder().title("Patched Title").build();
+        when(postRepository.updateTitle(eq(999L), eq("Patched Title"), any(LocalDateTime.class), isNull())).thenReturn(0);
+
+        // When/Then
+        assertThatThrownBy(() -> postService.patch(999L, patchRequest, null))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("PostEntity with id 999 not found");
+        verify(postRepository, never()).existsById(anyLong());
+    }
+
     @Test
     @DisplayName("update - Should update tagEntities when provided")
     void testUpdate_WithTags() {
@@ -307,33 +376,35 @@ class PostEntityServiceImplTest {
     }
 
     @Test
-    @DisplayName("deleteById - Should delete postEntity successfully")
+    @DisplayName("deleteById - Should soft delete postEntity with a single statement")
     void testDeleteById_Success() {
         // Given
-        when(postRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(postRepository).deleteById(1L);
+        when(postRepository.softDeleteById(1L)).thenReturn(1);
 
         // When
         postService.deleteById(1L);
 
         // Then
-        verify(postRepository).existsById(1L);
-        verify(postRepository).deleteById(1L);
+        verify(postRepository).softDeleteById(1L);
+        verify(postRepository, never()).existsById(anyLong());
+        verify(postRepository, never()).deleteById(anyLong());
+        verify(outboxService).append(AggregateType.POST, 1L, 1L, ChangeType.DELETED);
     }
 
     @Test
     @DisplayName("deleteById - Should throw exception when postEntity not found")
     void testDeleteById_NotFound() {
         // Given
-        when(postRepository.existsById(999L)).thenReturn(false);
+        when(postRepository.softDeleteById(999L)).thenReturn(0);
 
         // When/Then
         assertThatThrownBy(() -> postService.deleteById(999L))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("PostEntity with id 999 not found");
 
-        verify(postRepository).existsById(999L);
+        verify(postRepository).softDeleteById(999L);
         verify(postRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(outboxService);
     }
 
     @Test
@@ -474,4 +545,79 @@ class PostEntityServiceImplTest {
         verify(postRepository, never()).findById(anyLong());
         verify(postRepository, never()).save(any(PostEntity.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("addTag - Should write the association without loading the postEntity")
+    void testAddTag_Success() {
+        // Given
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(tagService.existsById(2L)).thenReturn(true);
+        when(postRepository.addTagAssociation(1L, 2L)).thenReturn(1);
+
+        // When
+        postService.addTag(1L, 2L);
+
+        // Then
+        verify(postRepository).addTagAssociation(1L, 2L);
+        verify(postRepository).incrementVersion(1L);
+        verify(postRepository, never()).findById(anyLong());
+        verify(tagService, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("addTag - Should throw exception when tagEntity not found")
+    void testAddTag_TagNotFound() {
+        // Given
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(tagService.existsById(999L)).thenReturn(false);
+
+        // When/Then
+        assertThatThrownBy(() -> postService.addTag(1L, 999L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("TagEntity with id 999 not found");
+
+        verify(postRepository, never()).addTagAssociation(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("removeTag - Should delete the association row directly")
+    void testRemoveTag_Success() {
+        // Given
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(tagService.existsById(2L)).thenReturn(true);
+        when(postRepository.removeTagAssociation(1L, 2L)).thenReturn(1);
+
+        // When
+        postService.removeTag(1L, 2L);
+
+        // Then
+        verify(postRepository).removeTagAssociation(1L, 2L);
+        verify(postRepository).incrementVersion(1L);
+    }
+
+    @Test
+    @DisplayName("removeTag - Should keep the version when no association was removed")
+    void testRemoveTag_NotLinked() {
+        // Given
+        when(postRepository.existsById(1L)).thenReturn(true);
+        when(tagService.existsById(2L)).thenReturn(true);
+        when(postRepository.removeTagAssociation(1L, 2L)).thenReturn(0);
+
+        // When
+        postService.removeTag(1L, 2L);
+
+        // Then
+        verify(postRepository, never()).incrementVersion(anyLong());
+    }
+
+    @Test
+    @DisplayName("removeTag - Should throw ValidationException when tagEntity id is null")
+    void testRemoveTag_NullTagId() {
+        // When/Then
+        assertThatThrownBy(() -> postService.removeTag(1L, null))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("TagEntity id cannot be null");
+
+        verify(postRepository, never()).removeTagAssociation(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,164 @@
+package com.sample.projects.postandcomments.service.impl;
+
+import com.sample.projects.postandcomments.dto.request.PostBulkDeleteRequest;
+import com.sample.projects.postandcomments.dto.response.PostBulkDeleteResponse;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.ChangeType;
+import com.sample.projects.postandcomments.exception.ValidationException;
+import com.sample.projects.postandcomments.repository.PostCommentRepository;
+import com.sample.projects.postandcomments.repository.PostDetailRepository;
+import com.sample.projects.postandcomments.repository.PostRepository;
+import com.sample.projects.postandcomments.service.OutboxService;
+import com.sample.projects.postandcomments.util.Constants;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostPurgeServiceImpl Unit Tests")
+class PostPurgeServiceImplTest {
+
+    private static final int POST_CHUNK_SIZE = 2;
+    private static final int COMMENT_CHUNK_SIZE = 3;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostCommentRepository postCommentRepository;
+
+    @Mock
+    private PostDetailRepository postDetailRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostPurgeServiceImpl postPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        postPurgeService = new PostPurgeServiceImpl(postRepository, postCommentRepository, postDetailRepository,
+                outboxService, transactionManager, POST_CHUNK_SIZE, COMMENT_CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("purge - Should delete comments in chunks before removing the postEntities")
+    void testPurge_ChunksComments() {
+        // Given
+        List<Long> postIds = List.of(1L, 2L);
+        when(postCommentRepository.deleteChunkByPostIds(postIds, COMMENT_CHUNK_SIZE)).thenReturn(3, 1, 0);
+        when(postRepository.deleteAllByIds(postIds)).thenReturn(2);
+
+        // When
+        int purged = postPurgeService.purge(postIds);
+
+        // Then
+        assertThat(purged).isEqualTo(2);
+        verify(postCommentRepository, times(3)).deleteChunkByPostIds(postIds, COMMENT_CHUNK_SIZE);
+        verify(postRepository).deleteTagAssociationsByPostIds(postIds);
+        verify(postDetailRepository).deleteAllByPostIds(postIds);
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    @DisplayName("bulkDelete - Should purge explicit ids in postEntity-sized chunks")
+    void testBulkDelete_ByIds() {
+        // Given
+        PostBulkDeleteRequest request = PostBulkDeleteRequest.builder()
+                .ids(new LinkedHashSet<>(List.of(1L, 2L, 3L)))
+                .build();
+        when(postRepository.deleteAllByIds(anyCollection()))
+                .thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+
+        // When
+        PostBulkDeleteResponse response = postPurgeService.bulkDelete(request);
+
+        // Then
+        assertThat(response.getDeletedCount()).isEqualTo(3);
+        verify(postRepository).deleteAllByIds(List.of(1L, 2L));
+        verify(postRepository).deleteAllByIds(List.of(3L));
+        verify(outboxService).appendForPosts(List.of(1L, 2L), ChangeType.DELETED);
+        verify(outboxService).appendForPosts(List.of(3L), ChangeType.DELETED);
+        verify(postRepository, never()).findIdsByTagId(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("bulkDelete - Should keep selecting tagged postEntities until none are left")
+    void testBulkDelete_ByTag() {
+        // Given
+        PostBulkDeleteRequest request = PostBulkDeleteRequest.builder().tagId(7L).build();
+        when(postRepository.findIdsByTagId(7L, POST_CHUNK_SIZE))
+                .thenReturn(List.of(1L, 2L), List.of(3L), List.of());
+        when(postRepository.deleteAllByIds(anyCollection()))
+                .thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+
+        // When
+        PostBulkDeleteResponse response = postPurgeService.bulkDelete(request);
+
+        // Then
+        assertThat(response.getDeletedCount()).isEqualTo(3);
+        verify(postRepository, times(3)).findIdsByTagId(7L, POST_CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("bulkDelete - Should combine tag and date filters")
+    void testBulkDelete_ByTagAndCreatedBefore() {
+        // Given
+        LocalDateTime cutOff = LocalDateTime.now();
+        PostBulkDeleteRequest request = PostBulkDeleteRequest.builder().tagId(7L).createdBefore(cutOff).build();
+        when(postRepository.findIdsByTagIdCreatedBefore(7L, cutOff, POST_CHUNK_SIZE)).thenReturn(List.of());
+
+        // When
+        PostBulkDeleteResponse response = postPurgeService.bulkDelete(request);
+
+        // Then
+        assertThat(response.getDeletedCount()).isZero();
+        verify(postRepository, never()).findIdsCreatedBefore(any(), anyInt());
+        verify(postRepository, never()).deleteAllByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("bulkDelete - Should reject a request without criteria")
+    void testBulkDelete_NoCriteria() {
+        // When/Then
+        assertThatThrownBy(() -> postPurgeService.bulkDelete(new PostBulkDeleteRequest()))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(Constants.BULK_DELETE_CRITERIA_REQUIRED);
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("bulkDelete - Should reject ids combined with filters")
+    void testBulkDelete_IdsWithFilter() {
+        // Given
+        PostBulkDeleteRequest request = PostBulkDeleteRequest.builder().ids(Set.of(1L)).tagId(7L).build();
+
+        // When/Then
+        assertThatThrownBy(() -> postPurgeService.bulkDelete(request))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(Constants.BULK_DELETE_IDS_NOT_COMBINABLE);
+        verifyNoInteractions(postRepository);
+    }
+}
@@ -0,0 +1,180 @@
+package com.sample.projects.postandcomments.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sample.projects.postandcomments.dto.response.PostResponse;
+import com.sample.projects.postandcomments.dto.response.TagResponse;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.AggregateType;
+import com.sample.projects.postandcomments.entity.OutboxEventEntity.ChangeType;
+import com.sample.projects.postandcomments.service.PostChangedEvent;
+import com.sample.projects.postandcomments.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostResponseCacheImpl Unit Tests")
+class PostResponseCacheImplTest {
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private ObjectMapper objectMapper;
+    private PostResponseCacheImpl postResponseCache;
+    private PostResponse postResponse;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        postResponseCache = new PostResponseCacheImpl(postService, objectMapper, meterRegistry, DataSize.ofMegabytes(1),
+                Duration.ofMinutes(5));
+        postResponse = PostResponse.builder()
+                .id(1L)
+                .title("Hot post")
+                .tags(Set.of(TagResponse.builder().id(3L).name("java").build()))
+                .createdAt(LocalDateTime.of(2025, 1, 2, 3, 4, 5))
+                .version(2L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("findById - Should load once and serialize exactly like the plain response")
+    void testFindById_CachedAndEquivalent() throws Exception {
+        // Given
+        when(postService.findById(1L)).thenReturn(Optional.of(postResponse));
+
+        // When
+        PostResponse first = postResponseCache.findById(1L).orElseThrow();
+        PostResponse second = postResponseCache.findById(1L).orElseThrow();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(postService, times(1)).findById(1L);
+        assertThat(objectMapper.writeValueAsString(second)).isEqualTo(objectMapper.writeValueAsString(postResponse));
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory()).findAndRegisterModules();
+        assertThat(smileMapper.readTree(smileMapper.writeValueAsBytes(second)))
+                .isEqualTo(smileMapper.readTree(smileMapper.writeValueAsBytes(postResponse)));
+    }
+
+    @Test
+    @DisplayName("findById - Should not cache a missing postEntity")
+    void testFindById_NotFound() {
+        // Given
+        when(postService.findById(9L)).thenReturn(Optional.empty());
+
+        // When
+        postResponseCache.findById(9L);
+        Optional<PostResponse> result = postResponseCache.findById(9L);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(postService, times(2)).findById(9L);
+    }
+
+    @Test
+    @DisplayName("onEvents - Should drop the changed postEntity, and everything on a tag change")
+    void testOnEvents_Invalidates() {
+        // Given
+        when(postService.findById(anyLong())).thenAnswer(invocation -> Optional.of(
+                PostResponse.builder().id(invocation.getArgument(0)).title("Post").build()));
+        postResponseCache.findById(1L);
+        postResponseCache.findById(2L);
+
+        // When
+        postResponseCache.onEvents(List.of(event(AggregateType.COMMENT, 1L)));
+        postResponseCache.findById(1L);
+        postResponseCache.findById(2L);
+        postResponseCache.onEvents(List.of(event(AggregateType.TAG, null)));
+        postResponseCache.findById(2L);
+
+        // Then
+        verify(postService, times(2)).findById(1L);
+        verify(postService, times(2)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("onPostChanged - Should drop the entry of a post written on this node")
+    void testOnPostChanged_Invalidates() {
+        // Given
+        when(postService.findById(anyLong())).thenAnswer(invocation -> Optional.of(
+                PostResponse.builder().id(invocation.getArgument(0)).title("Post").build()));
+        postResponseCache.findById(1L);
+        postResponseCache.findById(2L);
+
+        // When
+        postResponseCache.onPostChanged(new PostChangedEvent(1L));
+        postResponseCache.findById(1L);
+        postResponseCache.findById(2L);
+        postResponseCache.onPostChanged(PostChangedEvent.allPosts());
+        postResponseCache.findById(2L);
+
+        // Then
+        verify(postService, times(2)).findById(1L);
+        verify(postService, times(2)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("findById - Should not keep a load that raced an invalidation")
+    void testFindById_InvalidatedWhileLoading() {
+        // Given
+        when(postService.findById(1L)).thenAnswer(invocation -> {
+            // A write commits while the stale row is being read
+            postResponseCache.invalidate(1L);
+            return Optional.of(postResponse);
+        }).thenReturn(Optional.of(postResponse));
+
+        // When
+        Optional<PostResponse> raced = postResponseCache.findById(1L);
+        postResponseCache.findById(1L);
+
+        // Then
+        assertThat(raced).isPresent();
+        verify(postService, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("findById - Should load outside the cache's compute so a virtual thread is not pinned")
+    void testFindById_LoadsOutsideCompute() throws Exception {
+        // Given
+        when(postService.findById(1L)).thenAnswer(invocation -> {
+            // Inside a compute this would wait on the bin lock held by the loading thread
+            Thread writer = Thread.ofVirtual().start(() -> postResponseCache.invalidate(1L));
+            writer.join(Duration.ofSeconds(5));
+            assertThat(writer.isAlive()).isFalse();
+            return Optional.of(postResponse);
+        });
+
+        // When/Then
+        assertThat(postResponseCache.findById(1L)).isPresent();
+    }
+
+    private static OutboxEventEntity event(AggregateType aggregateType, Long postId) {
+        return OutboxEventEntity.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(5L)
+                .postId(postId)
+                .changeType(ChangeType.UPDATED)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,166 @@
+package com.sample.projects.postandcomments.service.impl;
+
+import com.sample.projects.postandcomments.repository.PostDetailRepository;
+import com.sample.projects.postandcomments.service.DescriptionBlobService.DescriptionBlob;
+import com.sample.projects.postandcomments.util.TextCompression;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Export and import run their own transactions, so the test must not hold one open around them
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("SnapshotServiceImpl Round-Trip Tests")
+class SnapshotServiceImplTest {
+
+    private static final String POSTS = "SELECT id, title, created_at, updated_at, deleted, version FROM post ORDER BY id";
+
+    private static final int BLOB_THRESHOLD = 100;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PostDetailRepository postDetailRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path snapshotDir;
+
+    private DescriptionBlobServiceImpl sourceBlobService;
+    private SnapshotServiceImpl snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        sourceBlobService = blobService("source-blobs");
+        snapshotService = snapshotService(sourceBlobService);
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+        jdbcTemplate.update("INSERT INTO post (id, title, created_at, updated_at, deleted, version) VALUES (?, ?, ?, ?, ?, ?)",
+                1L, "Snapshot post", now, now, false, 3L);
+        jdbcTemplate.update("INSERT INTO post (id, title, created_at, deleted, version) VALUES (?, ?, ?, ?, ?)",
+                2L, "Tombstoned post", now, true, 0L);
+        jdbcTemplate.update("INSERT INTO post_detail (id, description, created_at) VALUES (?, ?, ?)",
+                1L, TextCompression.encode("Short description"), now);
+        jdbcTemplate.update("INSERT INTO post_comments (id, comment, post_id, created_at) VALUES (?, ?, ?, ?)",
+                10L, "First comment", 1L, now);
+        jdbcTemplate.update("INSERT INTO tag (id, name, created_at) VALUES (?, ?, ?)", 5L, "Snapshots", now);
+        jdbcTemplate.update("INSERT INTO post_tag (post_id, tag_id) VALUES (?, ?)", 1L, 5L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearTables();
+    }
+
+    @Test
+    @DisplayName("exportSnapshot/importSnapshot - Should restore every table into an empty database")
+    void testRoundTrip() {
+        // Given
+        Path snapshot = snapshotDir.resolve("round-trip.snapshot");
+        List<Map<String, Object>> postsBefore = jdbcTemplate.queryForList(POSTS);
+
+        // When
+        Map<String, Long> exported = snapshotService.exportSnapshot(snapshot);
+        clearTables();
+        Map<String, Long> imported = snapshotService.importSnapshot(snapshot);
+
+        // Then
+        assertThat(exported).containsExactly(Map.entry("post", 2L), Map.entry("post_detail", 1L),
+                Map.entry("post_comments", 1L), Map.entry("tag", 1L), Map.entry("post_tag", 1L));
+        assertThat(imported).isEqualTo(exported);
+        assertThat(jdbcTemplate.queryForList(POSTS)).isEqualTo(postsBefore);
+        byte[] description = jdbcTemplate.queryForObject("SELECT description FROM post_detail WHERE id = 1", byte[].class);
+        assertThat(TextCompression.decode(description)).isEqualTo("Short description");
+        assertThat(jdbcTemplate.queryForObject("SELECT comment FROM post_comments WHERE post_id = 1", String.class))
+                .isEqualTo("First comment");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_tag WHERE post_id = 1 AND tag_id = 5", Long.class))
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("importSnapshot - Should continue identities after the highest imported id")
+    void testImportRestartsIdentity() {
+        // Given
+        Path snapshot = snapshotDir.resolve("identity.snapshot");
+        snapshotService.exportSnapshot(snapshot);
+        clearTables();
+
+        // When
+        snapshotService.importSnapshot(snapshot);
+        jdbcTemplate.update("INSERT INTO post (title, created_at) VALUES (?, ?)", "After import", LocalDateTime.now());
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("SELECT id FROM post WHERE title = 'After import'", Long.class))
+                .isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("importSnapshot - Should carry blob descriptions to a host with an empty blob store")
+    void testRoundTrip_BlobDescription() {
+        // Given
+        String longDescription = "Long description stored outside the table. ".repeat(5);
+        DescriptionBlob blob = sourceBlobService.put(longDescription);
+        jdbcTemplate.update("INSERT INTO post (id, title, created_at) VALUES (?, ?, ?)", 3L, "Blob post", LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO post_detail (id, description_hash, description_length, created_at) VALUES (?, ?, ?, ?)",
+                3L, blob.hash(), blob.length(), LocalDateTime.now());
+        Path snapshot = snapshotDir.resolve("blob.snapshot");
+        DescriptionBlobServiceImpl targetBlobService = blobService("target-blobs");
+
+        // When
+        snapshotService.exportSnapshot(snapshot);
+        clearTables();
+        snapshotService(targetBlobService).importSnapshot(snapshot);
+
+        // Then
+        Map<String, Object> detail = jdbcTemplate.queryForMap(
+                "SELECT description, description_hash, description_length FROM post_detail WHERE id = 3");
+        assertThat(detail.get("description")).isNull();
+        assertThat(detail.get("description_hash")).isEqualTo(blob.hash());
+        assertThat(targetBlobService.get(blob.hash(), blob.length())).isEqualTo(longDescription);
+        byte[] shortDescription = jdbcTemplate.queryForObject("SELECT description FROM post_detail WHERE id = 1", byte[].class);
+        assertThat(TextCompression.decode(shortDescription)).isEqualTo("Short description");
+    }
+
+    private DescriptionBlobServiceImpl blobService(String directory) {
+        return new DescriptionBlobServiceImpl(postDetailRepository, snapshotDir.resolve(directory).toString(),
+                BLOB_THRESHOLD, Duration.ofHours(1));
+    }
+
+    private SnapshotServiceImpl snapshotService(DescriptionBlobServiceImpl descriptionBlobService) {
+        return new SnapshotServiceImpl(dataSource, transactionManager, entityManagerFactory, descriptionBlobService, 1000);
+    }
+
+    private void clearTables() {
+        for (String table : List.of("post_tag", "tag", "post_comments", "post_detail", "post")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+}
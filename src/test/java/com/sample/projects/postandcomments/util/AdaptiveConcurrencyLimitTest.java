@@ -0,0 +1,93 @@
+package com.sample.projects.postandcomments.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdaptiveConcurrencyLimit Unit Tests")
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    @Test
+    @DisplayName("tryAcquire - Should admit up to the share of the limit for each caller")
+    void testTryAcquire_Shares() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, 2.0);
+
+        // When
+        int lowAdmitted = admit(limit, 0.5, 20);
+        int highAdmitted = admit(limit, 1.0, 20);
+
+        // Then
+        assertThat(lowAdmitted).isEqualTo(5);
+        assertThat(highAdmitted).isEqualTo(5);
+        assertThat(limit.inFlight()).isEqualTo(10);
+        assertThat(limit.tryAcquire(0.5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("release - Should raise the limit while latency is steady and the limit is in use")
+    void testRelease_Grows() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, 2.0);
+        long now = 0;
+
+        // When
+        for (int round = 0; round < 50; round++) {
+            int admitted = admit(limit, 1.0, limit.limit());
+            for (int i = 0; i < admitted; i++) {
+                limit.release(now, now + MILLI);
+            }
+            now += MILLI;
+        }
+
+        // Then
+        assertThat(limit.limit()).isGreaterThan(10);
+        assertThat(limit.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("release - Should cut the limit when latency climbs, but not below the minimum")
+    void testRelease_BacksOff() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 5, 100, 2.0);
+        long now = 0;
+        for (int i = 0; i < 200; i++) {
+            limit.tryAcquire(1.0);
+            limit.release(now, now + MILLI);
+            now += MILLI;
+        }
+        assertThat(limit.limit()).isEqualTo(20);
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            limit.tryAcquire(1.0);
+            limit.release(now, now + 20 * MILLI);
+            now += 20 * MILLI;
+        }
+
+        // Then
+        assertThat(limit.limit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("constructor - Should reject inconsistent bounds")
+    void testConstructor_Invalid() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(10, 0, 100, 2.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(10, 50, 20, 2.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(10, 1, 20, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int admit(AdaptiveConcurrencyLimit limit, double share, int attempts) {
+        int admitted = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (limit.tryAcquire(share)) {
+                admitted++;
+            }
+        }
+        return admitted;
+    }
+}
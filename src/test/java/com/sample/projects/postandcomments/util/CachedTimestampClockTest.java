@@ -0,0 +1,74 @@
+package com.sample.projects.postandcomments.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CachedTimestampClock Unit Tests")
+class CachedTimestampClockTest {
+
+    @Test
+    @DisplayName("now - Should reuse the formatted string within a millisecond")
+    void testNow_SameMillisecond() {
+        // Given
+        CachedTimestampClock clock = new CachedTimestampClock(
+                Clock.fixed(Instant.parse("2025-03-04T05:06:07.089Z"), ZoneOffset.UTC));
+
+        // When
+        String first = clock.now();
+        String second = clock.now();
+
+        // Then
+        assertThat(first).isEqualTo("2025-03-04T05:06:07.089");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("now - Should reformat once the millisecond changes, in the clock's zone")
+    void testNow_NextMillisecond() {
+        // Given
+        MutableClock source = new MutableClock(Instant.parse("2025-03-04T05:06:07.089Z"), ZoneId.of("Europe/Istanbul"));
+        CachedTimestampClock clock = new CachedTimestampClock(source);
+        String first = clock.now();
+
+        // When
+        source.instant = source.instant.plusMillis(1);
+        String second = clock.now();
+
+        // Then
+        assertThat(first).isEqualTo("2025-03-04T08:06:07.089");
+        assertThat(second).isEqualTo("2025-03-04T08:06:07.090");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+        private final ZoneId zone;
+
+        private MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.sample.projects.postandcomments.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IdGenerator Unit Tests")
+class IdGeneratorTest {
+
+    @Test
+    @DisplayName("nextUuid - Should produce version 7 ids carrying the current time")
+    void testNextUuid_Layout() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID id = IdGenerator.nextUuid();
+
+        // Then
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("nextUuid - Should be strictly increasing within a thread")
+    void testNextUuid_Monotonic() {
+        // Given
+        UUID previous = IdGenerator.nextUuid();
+
+        for (int i = 0; i < 100_000; i++) {
+            // When
+            UUID next = IdGenerator.nextUuid();
+
+            // Then
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .isPositive();
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("nextId - Should not repeat across threads")
+    void testNextId_UniqueAcrossThreads() throws Exception {
+        // Given
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(IdGenerator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertThat(ids).hasSize(8 * 20_000);
+    }
+}
@@ -0,0 +1,47 @@
+package com.sample.projects.postandcomments.util;
+
+import com.sample.projects.postandcomments.dto.CommonResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResponseUtil Unit Tests")
+class ResponseUtilTest {
+
+    @AfterEach
+    void tearDown() {
+        MDC.remove(ResponseUtil.CORRELATION_ID_MDC_KEY);
+    }
+
+    @Test
+    @DisplayName("buildSuccessResponse - Should reuse the request's correlation id")
+    void testBuildSuccessResponse_CorrelationIdFromMdc() {
+        // Given
+        MDC.put(ResponseUtil.CORRELATION_ID_MDC_KEY, "request-correlation-id");
+
+        // When
+        CommonResponse<String> response = ResponseUtil.buildSuccessResponse(
+                HttpStatus.OK, "ok", "payload", new MockHttpServletRequest("GET", "/api/v1/post"));
+
+        // Then
+        assertThat(response.getCorrelationId()).isEqualTo("request-correlation-id");
+        assertThat(response.getTraceId()).isNotEqualTo(response.getCorrelationId()).hasSize(36);
+    }
+
+    @Test
+    @DisplayName("buildErrorResponse - Should mint a correlation id outside a request")
+    void testBuildErrorResponse_CorrelationIdGenerated() {
+        // When
+        CommonResponse<Object> response = ResponseUtil.buildErrorResponse(
+                HttpStatus.BAD_REQUEST, "bad", null, new MockHttpServletRequest("GET", "/api/v1/post"));
+
+        // Then
+        assertThat(response.getCorrelationId()).hasSize(36);
+        assertThat(response.getTraceId()).isNotEqualTo(response.getCorrelationId());
+    }
+}
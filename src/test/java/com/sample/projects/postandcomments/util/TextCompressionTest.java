@@ -0,0 +1,70 @@
+package com.sample.projects.postandcomments.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TextCompression Unit Tests")
+class TextCompressionTest {
+
+    @Test
+    @DisplayName("encode - Should keep short text as plain UTF-8")
+    void testEncode_ShortTextPlain() {
+        // When
+        byte[] encoded = TextCompression.encode("Short description");
+
+        // Then
+        assertThat(encoded[0]).isEqualTo(TextCompression.PLAIN);
+        assertThat(encoded).hasSize("Short description".length() + 1);
+        assertThat(TextCompression.decode(encoded)).isEqualTo("Short description");
+    }
+
+    @Test
+    @DisplayName("encode - Should compress long text and round-trip it, including non-ASCII characters")
+    void testEncode_LongTextCompressed() {
+        // Given
+        String text = "Café performance notes — cache hit ratio with the database 🚀. ".repeat(60);
+
+        // When
+        byte[] encoded = TextCompression.encode(text);
+
+        // Then
+        assertThat(TextCompression.isCompressed(encoded)).isTrue();
+        assertThat(encoded.length).isLessThan(text.getBytes(StandardCharsets.UTF_8).length / 10);
+        assertThat(TextCompression.decode(encoded)).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("encode - Should not compress text below the threshold, however repetitive")
+    void testEncode_BelowThresholdPlain() {
+        // Given
+        String text = "a".repeat(TextCompression.MIN_COMPRESSED_BYTES - 1);
+
+        // When
+        byte[] encoded = TextCompression.encode(text);
+
+        // Then
+        assertThat(encoded[0]).isEqualTo(TextCompression.PLAIN);
+        assertThat(TextCompression.decode(encoded)).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("decode - Should pass null through and reject corrupt data")
+    void testDecode_NullAndCorrupt() {
+        // Given
+        byte[] encoded = TextCompression.encode("Truncated ".repeat(100));
+
+        // When/Then
+        assertThat(TextCompression.encode(null)).isNull();
+        assertThat(TextCompression.decode(null)).isNull();
+        assertThatThrownBy(() -> TextCompression.decode(Arrays.copyOf(encoded, encoded.length - 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TextCompression.decode(new byte[]{9}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
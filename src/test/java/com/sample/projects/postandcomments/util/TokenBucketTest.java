@@ -0,0 +1,92 @@
+package com.sample.projects.postandcomments.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TokenBucket Unit Tests")
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("tryAcquire - Should allow a full burst, then refuse with the time to the next token")
+    void testTryAcquire_Burst() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, 2, 0);
+
+        // When/Then
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND / 2);
+        assertThat(bucket.tryAcquire(SECOND / 4)).isEqualTo(SECOND / 4);
+    }
+
+    @Test
+    @DisplayName("tryAcquire - Should refill at the configured rate without exceeding capacity")
+    void testTryAcquire_Refill() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        // When/Then
+        assertThat(bucket.tryAcquire(SECOND)).isZero();
+        assertThat(bucket.tryAcquire(SECOND)).isPositive();
+        // Long idle: only capacity tokens accumulate
+        assertThat(bucket.tryAcquire(100 * SECOND)).isZero();
+        assertThat(bucket.tryAcquire(100 * SECOND)).isZero();
+        assertThat(bucket.tryAcquire(100 * SECOND)).isPositive();
+    }
+
+    @Test
+    @DisplayName("tryAcquire - Should hand out exactly capacity tokens to concurrent callers")
+    void testTryAcquire_Concurrent() {
+        // Given
+        TokenBucket bucket = new TokenBucket(100, 0.001, 0);
+        AtomicInteger granted = new AtomicInteger();
+
+        // When
+        CompletableFuture.allOf(IntStream.range(0, 8)
+                .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        if (bucket.tryAcquire(0) == 0) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                }))
+                .toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        assertThat(granted.get()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("refund - Should make a taken token available again")
+    void testRefund() {
+        // Given
+        TokenBucket bucket = new TokenBucket(1, 0.001, 0);
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isPositive();
+
+        // When
+        bucket.refund();
+
+        // Then
+        assertThat(bucket.tryAcquire(0)).isZero();
+    }
+
+    @Test
+    @DisplayName("constructor - Should reject an empty bucket or a non-positive rate")
+    void testConstructor_Invalid() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
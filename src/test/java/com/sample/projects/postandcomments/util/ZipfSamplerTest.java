@@ -0,0 +1,61 @@
+package com.sample.projects.postandcomments.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ZipfSampler Unit Tests")
+class ZipfSamplerTest {
+
+    @Test
+    @DisplayName("sample - Should stay within 1..n and favour low ranks")
+    void testSample_Skew() {
+        // Given
+        ZipfSampler sampler = new ZipfSampler(100, 1.2);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] counts = new int[101];
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        // Then
+        assertThat(counts[0]).isZero();
+        assertThat(counts[1]).isGreaterThan(counts[2]);
+        assertThat(counts[2]).isGreaterThan(counts[10]);
+        assertThat(counts[10]).isGreaterThan(counts[100]);
+        // P(1) = 1 / H(100, 1.2) ~ 0.28
+        assertThat(counts[1] / 100_000.0).isBetween(0.26, 0.30);
+    }
+
+    @Test
+    @DisplayName("sample - Should be uniform with a zero exponent")
+    void testSample_Uniform() {
+        // Given
+        ZipfSampler sampler = new ZipfSampler(4, 0);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] counts = new int[5];
+
+        // When
+        for (int i = 0; i < 40_000; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        // Then
+        for (int rank = 1; rank <= 4; rank++) {
+            assertThat(counts[rank]).isBetween(9_000, 11_000);
+        }
+    }
+
+    @Test
+    @DisplayName("constructor - Should reject an empty range")
+    void testConstructor_Invalid() {
+        assertThatThrownBy(() -> new ZipfSampler(0, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,87 @@
+package com.sample.projects.postandcomments.util.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+@DisplayName("Snapshot Format Round-Trip Tests")
+class SnapshotFormatTest {
+
+    private static final List<SnapshotColumn> COLUMNS = List.of(
+            new SnapshotColumn("id", SnapshotColumn.Type.BIGINT),
+            new SnapshotColumn("title", SnapshotColumn.Type.VARCHAR),
+            new SnapshotColumn("created_at", SnapshotColumn.Type.TIMESTAMP),
+            new SnapshotColumn("deleted", SnapshotColumn.Type.BOOLEAN),
+            new SnapshotColumn("score", SnapshotColumn.Type.INTEGER),
+            new SnapshotColumn("payload", SnapshotColumn.Type.VARBINARY));
+
+    @Test
+    @DisplayName("round trip - Should restore every value, null and row group boundary")
+    void testRoundTrip() throws IOException {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 2, 29, 13, 45, 12, 123_456_000);
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            rows.add(new Object[]{id, "Post " + id + " – ünïcode", createdAt.plusSeconds(id), id % 2 == 0,
+                    (int) id * 10, new byte[]{(byte) id, 0, -1}});
+        }
+        rows.add(new Object[]{6L, null, null, null, null, null});
+
+        // When
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (SnapshotWriter writer = new SnapshotWriter(buffer, 4)) {
+            writer.beginTable("post", COLUMNS);
+            for (Object[] row : rows) {
+                writer.writeRow(row);
+            }
+            writer.endTable();
+            writer.beginTable("tag", List.of(new SnapshotColumn("id", SnapshotColumn.Type.BIGINT)));
+            writer.endTable();
+        }
+
+        List<Object[]> restored = new ArrayList<>();
+        List<Integer> groupSizes = new ArrayList<>();
+        SnapshotReader.Table emptyTable;
+        try (SnapshotReader reader = new SnapshotReader(new ByteArrayInputStream(buffer.toByteArray()))) {
+            SnapshotReader.Table table = reader.nextTable();
+            assertThat(table.name()).isEqualTo("post");
+            assertThat(table.columns()).isEqualTo(COLUMNS);
+            List<Object[]> group;
+            while ((group = reader.nextRowGroup()) != null) {
+                groupSizes.add(group.size());
+                restored.addAll(group);
+            }
+            emptyTable = reader.nextTable();
+            assertThat(reader.nextRowGroup()).isNull();
+            assertThat(reader.nextTable()).isNull();
+        }
+
+        // Then
+        assertThat(groupSizes).containsExactly(4, 2);
+        assertThat(restored).hasSameSizeAs(rows);
+        for (int i = 0; i < rows.size(); i++) {
+            assertThat(restored.get(i)).containsExactly(rows.get(i));
+        }
+        assertThat(emptyTable.name()).isEqualTo("tag");
+    }
+
+    @Test
+    @DisplayName("reader - Should reject input that is not a snapshot")
+    void testRejectsForeignInput() {
+        // When/Then
+        assertThatThrownBy(() -> new SnapshotReader(new ByteArrayInputStream("INSERT INTO post".getBytes())))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Not a snapshot file");
+    }
+}